@@ -35,4 +35,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindArray {
   /** Array resource ID to which the field will be bound. */
   @ArrayRes int value();
+
+  /**
+   * Read the array through {@code ResourceCache}, which hands out copies of a shared array,
+   * rather than loading it on every bind. Not supported for
+   * {@link android.content.res.TypedArray TypedArray} fields.
+   */
+  boolean cached() default false;
 }
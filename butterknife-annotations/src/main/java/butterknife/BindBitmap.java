@@ -19,4 +19,9 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindBitmap {
   /** Drawable resource ID from which the {@link Bitmap} will be created. */
   @DrawableRes int value();
+
+  /**
+   * Share the decoded bitmap through {@code ResourceCache} rather than decoding it on every bind.
+   */
+  boolean cached() default false;
 }
@@ -18,4 +18,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindBool {
   /** Boolean resource ID to which the field will be bound. */
   @BoolRes int value();
+
+  /** Share the value through {@code ResourceCache} rather than reading it on every bind. */
+  boolean cached() default false;
 }
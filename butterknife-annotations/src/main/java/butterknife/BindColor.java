@@ -20,4 +20,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindColor {
   /** Color resource ID to which the field will be bound. */
   @ColorRes int value();
+
+  /** Share the color through {@code ResourceCache} rather than loading it on every bind. */
+  boolean cached() default false;
 }
@@ -20,4 +20,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindDimen {
   /** Dimension resource ID to which the field will be bound. */
   @DimenRes int value();
+
+  /** Share the dimension through {@code ResourceCache} rather than reading it on every bind. */
+  boolean cached() default false;
 }
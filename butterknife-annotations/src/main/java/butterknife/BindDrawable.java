@@ -26,4 +26,10 @@ public @interface BindDrawable {
 
   /** Color attribute resource ID that is used to tint the drawable. */
   @AttrRes int tint() default NO_RES_ID;
+
+  /**
+   * Create the drawable from a state kept in {@code ResourceCache} rather than loading it on every
+   * bind. Not suitable for drawables which reference theme attributes.
+   */
+  boolean cached() default false;
 }
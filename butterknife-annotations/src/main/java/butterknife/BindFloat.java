@@ -22,4 +22,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindFloat {
   /** Float resource ID to which the field will be bound. */
   @DimenRes int value();
+
+  /** Share the value through {@code ResourceCache} rather than reading it on every bind. */
+  boolean cached() default false;
 }
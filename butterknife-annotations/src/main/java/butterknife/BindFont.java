@@ -25,6 +25,9 @@ public @interface BindFont {
 
   @TypefaceStyle int style() default Typeface.NORMAL;
 
+  /** Share the font through {@code ResourceCache} rather than loading it on every bind. */
+  boolean cached() default false;
+
   @IntDef({
       Typeface.NORMAL,
       Typeface.BOLD,
@@ -18,4 +18,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindInt {
   /** Integer resource ID to which the field will be bound. */
   @IntegerRes int value();
+
+  /** Share the value through {@code ResourceCache} rather than reading it on every bind. */
+  boolean cached() default false;
 }
@@ -17,4 +17,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface BindString {
   /** String resource ID to which the field will be bound. */
   @StringRes int value();
+
+  /** Share the string through {@code ResourceCache} rather than reading it on every bind. */
+  boolean cached() default false;
 }
@@ -21,6 +21,14 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * Any number of parameters from
  * {@link OnClickListener#onClick(android.view.View) onClick} may be used on the
  * method.
+ * <p>
+ * Clicks are debounced per view. By default further clicks on a view are ignored for about one
+ * frame after an accepted click. Set a {@link #debounceMillis() window} to ignore them for longer:
+ * <pre><code>
+ * {@literal @}OnClick(value = R.id.submit, debounceMillis = 300) void submit() {
+ *   // ...
+ * }
+ * </code></pre>
  *
  * @see OnClickListener
  */
@@ -38,4 +46,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 public @interface OnClick {
   /** View IDs to which the method will be bound. */
   @IdRes int[] value() default { View.NO_ID };
+
+  /**
+   * Milliseconds after a click during which further clicks on the same view are ignored. The
+   * default of 0 ignores them for about one frame.
+   */
+  long debounceMillis() default 0;
 }
@@ -39,6 +39,7 @@ import static java.lang.annotation.RetentionPolicy.CLASS;
     targetType = "android.widget.AdapterView<?>",
     setter = "setOnItemSelectedListener",
     type = "android.widget.AdapterView.OnItemSelectedListener",
+    adapter = "butterknife.internal.EmptyOnItemSelectedListener",
     callbacks = OnItemSelected.Callback.class
 )
 public @interface OnItemSelected {
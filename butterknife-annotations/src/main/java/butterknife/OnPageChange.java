@@ -34,6 +34,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
     setter = "addOnPageChangeListener",
     remover = "removeOnPageChangeListener",
     type = "androidx.viewpager.widget.ViewPager.OnPageChangeListener",
+    adapter = "androidx.viewpager.widget.ViewPager.SimpleOnPageChangeListener",
     callbacks = OnPageChange.Callback.class
 )
 public @interface OnPageChange {
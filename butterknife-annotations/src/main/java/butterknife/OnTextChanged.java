@@ -38,6 +38,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
     setter = "addTextChangedListener",
     remover = "removeTextChangedListener",
     type = "android.text.TextWatcher",
+    adapter = "butterknife.internal.EmptyTextWatcher",
     callbacks = OnTextChanged.Callback.class
 )
 public @interface OnTextChanged {
@@ -22,6 +22,13 @@ public @interface ListenerClass {
   /** Fully-qualified class name of the listener type. */
   String type();
 
+  /**
+   * Fully-qualified class name of a class implementing the {@linkplain #type() listener type}
+   * whose callbacks do nothing. When set, generated listeners extend it and only
+   * override the callbacks which are bound. Only valid for callbacks returning {@code void}.
+   */
+  String adapter() default "";
+
   /** Enum which declares the listener callback methods. Mutually exclusive to {@link #method()}. */
   Class<? extends Enum<?>> callbacks() default NONE.class;
 
@@ -0,0 +1,9 @@
+package android.content.res;
+
+public class Resources {
+  public static class NotFoundException extends RuntimeException {
+    public NotFoundException(String name) {
+      super(name);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package android.os;
+
+/** Drops posted work. Benchmarks never run the main looper. */
+public class Handler {
+  public Handler(Looper looper) {
+  }
+
+  public final boolean post(Runnable r) {
+    return true;
+  }
+}
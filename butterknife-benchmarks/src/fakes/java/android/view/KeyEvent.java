@@ -0,0 +1,6 @@
+package android.view;
+
+public class KeyEvent {
+  private KeyEvent() {
+  }
+}
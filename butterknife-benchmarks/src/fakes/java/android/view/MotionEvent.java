@@ -0,0 +1,6 @@
+package android.view;
+
+public final class MotionEvent {
+  private MotionEvent() {
+  }
+}
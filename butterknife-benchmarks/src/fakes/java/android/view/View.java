@@ -0,0 +1,86 @@
+package android.view;
+
+import android.content.Context;
+import android.content.res.Resources;
+
+/**
+ * A minimal JVM implementation of the framework view. Lookups follow the same pre-order traversal
+ * as the real {@code findViewById} so binding costs scale with the shape of the tree.
+ */
+public class View {
+  public static final int NO_ID = -1;
+
+  private final Context context;
+  private int id = NO_ID;
+  private OnClickListener onClickListener;
+  private OnLongClickListener onLongClickListener;
+  private OnFocusChangeListener onFocusChangeListener;
+  private OnTouchListener onTouchListener;
+
+  public View(Context context) {
+    this.context = context;
+  }
+
+  public Context getContext() {
+    return context;
+  }
+
+  public Resources getResources() {
+    throw new UnsupportedOperationException();
+  }
+
+  public boolean isInEditMode() {
+    return false;
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public void setId(int id) {
+    this.id = id;
+  }
+
+  public final View findViewById(int id) {
+    if (id == NO_ID) {
+      return null;
+    }
+    return findViewTraversal(id);
+  }
+
+  protected View findViewTraversal(int id) {
+    return id == this.id ? this : null;
+  }
+
+  public void setOnClickListener(OnClickListener l) {
+    onClickListener = l;
+  }
+
+  public void setOnLongClickListener(OnLongClickListener l) {
+    onLongClickListener = l;
+  }
+
+  public void setOnFocusChangeListener(OnFocusChangeListener l) {
+    onFocusChangeListener = l;
+  }
+
+  public void setOnTouchListener(OnTouchListener l) {
+    onTouchListener = l;
+  }
+
+  public interface OnClickListener {
+    void onClick(View v);
+  }
+
+  public interface OnLongClickListener {
+    boolean onLongClick(View v);
+  }
+
+  public interface OnFocusChangeListener {
+    void onFocusChange(View v, boolean hasFocus);
+  }
+
+  public interface OnTouchListener {
+    boolean onTouch(View v, MotionEvent event);
+  }
+}
@@ -0,0 +1,38 @@
+package android.view;
+
+import android.content.Context;
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class ViewGroup extends View {
+  private final List<View> children = new ArrayList<>();
+
+  public ViewGroup(Context context) {
+    super(context);
+  }
+
+  public void addView(View child) {
+    children.add(child);
+  }
+
+  public int getChildCount() {
+    return children.size();
+  }
+
+  public View getChildAt(int index) {
+    return children.get(index);
+  }
+
+  @Override protected View findViewTraversal(int id) {
+    if (id == getId()) {
+      return this;
+    }
+    for (int i = 0, count = children.size(); i < count; i++) {
+      View view = children.get(i).findViewTraversal(id);
+      if (view != null) {
+        return view;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,27 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+public abstract class AdapterView<T> extends ViewGroup {
+  public AdapterView(Context context) {
+    super(context);
+  }
+
+  public void setOnItemClickListener(OnItemClickListener listener) {
+    throw new UnsupportedOperationException();
+  }
+
+  public void setOnItemLongClickListener(OnItemLongClickListener listener) {
+    throw new UnsupportedOperationException();
+  }
+
+  public interface OnItemClickListener {
+    void onItemClick(AdapterView<?> parent, View view, int position, long id);
+  }
+
+  public interface OnItemLongClickListener {
+    boolean onItemLongClick(AdapterView<?> parent, View view, int position, long id);
+  }
+}
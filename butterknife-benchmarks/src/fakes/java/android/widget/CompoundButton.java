@@ -0,0 +1,17 @@
+package android.widget;
+
+import android.content.Context;
+
+public abstract class CompoundButton extends TextView {
+  public CompoundButton(Context context) {
+    super(context);
+  }
+
+  public void setOnCheckedChangeListener(OnCheckedChangeListener listener) {
+    throw new UnsupportedOperationException();
+  }
+
+  public interface OnCheckedChangeListener {
+    void onCheckedChanged(CompoundButton buttonView, boolean isChecked);
+  }
+}
@@ -0,0 +1,28 @@
+package android.widget;
+
+import android.content.Context;
+import android.text.TextWatcher;
+import android.view.KeyEvent;
+import android.view.View;
+
+public class TextView extends View {
+  public TextView(Context context) {
+    super(context);
+  }
+
+  public void setOnEditorActionListener(OnEditorActionListener l) {
+    throw new UnsupportedOperationException();
+  }
+
+  public void addTextChangedListener(TextWatcher watcher) {
+    throw new UnsupportedOperationException();
+  }
+
+  public void removeTextChangedListener(TextWatcher watcher) {
+    throw new UnsupportedOperationException();
+  }
+
+  public interface OnEditorActionListener {
+    boolean onEditorAction(TextView v, int actionId, KeyEvent event);
+  }
+}
@@ -0,0 +1,101 @@
+package butterknife;
+
+import android.view.View;
+import android.widget.FrameLayout;
+import butterknife.benchmarks.bind.DeepHierarchy;
+import butterknife.benchmarks.bind.FiftyViews;
+import butterknife.benchmarks.bind.Listeners;
+import butterknife.benchmarks.bind.OneView;
+import butterknife.benchmarks.bind.TwentyButtons;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binding a target through the generated {@code _ViewBinding} classes compared to
+ * {@code butterknife-reflect}. Targets are bound into a layout of 50 views with IDs 1 to 50:
+ * <ul>
+ * <li>{@code oneView}: a single {@code @BindView} field.</li>
+ * <li>{@code fiftyViews}: 50 {@code @BindView} fields.</li>
+ * <li>{@code deepHierarchy}: a single field bound six superclasses up.</li>
+ * <li>{@code listeners}: click, long click, and focus change listeners on 10 views.</li>
+ * <li>{@code twentyButtons}: a different {@code @OnClick} method on each of 20 views.</li>
+ * </ul>
+ * The difference between {@link #bindAndUnbind} and {@link #bind} is the cost of unbinding.
+ * <p>
+ * Everything {@link #bind} allocates stays reachable from the views until unbinding, so the
+ * {@code gc.alloc.rate.norm} reported with {@code -prof gc} is the heap retained per bound screen.
+ * Build with {@code -Pbutterknife.shareListeners=true} to compare the listener scenarios against
+ * one shared listener per listener type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BindBenchmark {
+  private static final int VIEW_COUNT = 50;
+
+  @Param({ "generated", "reflect" })
+  public String implementation;
+
+  @Param({ "oneView", "fiftyViews", "deepHierarchy", "listeners", "twentyButtons" })
+  public String scenario;
+
+  private UnbinderFactory factory;
+  private Object target;
+  private View source;
+
+  @Setup public void setUp() throws ReflectiveOperationException {
+    switch (implementation) {
+      case "generated":
+        factory = ButterKnife::bind;
+        break;
+      case "reflect":
+        factory = ReflectClassLoader.createFactory();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown implementation: " + implementation);
+    }
+
+    switch (scenario) {
+      case "oneView":
+        target = new OneView();
+        break;
+      case "fiftyViews":
+        target = new FiftyViews();
+        break;
+      case "deepHierarchy":
+        target = new DeepHierarchy.Level6();
+        break;
+      case "listeners":
+        target = new Listeners();
+        break;
+      case "twentyButtons":
+        target = new TwentyButtons();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown scenario: " + scenario);
+    }
+
+    FrameLayout root = new FrameLayout(null);
+    for (int id = 1; id <= VIEW_COUNT; id++) {
+      View view = new View(null);
+      view.setId(id);
+      root.addView(view);
+    }
+    source = root;
+  }
+
+  @Benchmark public Unbinder bind() {
+    return factory.bind(target, source);
+  }
+
+  @Benchmark public void bindAndUnbind() {
+    factory.bind(target, source).unbind();
+  }
+}
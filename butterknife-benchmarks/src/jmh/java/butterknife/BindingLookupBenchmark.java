@@ -0,0 +1,75 @@
+package butterknife;
+
+import android.view.View;
+import android.widget.FrameLayout;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The first binding of a class, i.e. with an empty binding cache, found either by probing the
+ * class loader for {@code _ViewBinding} classes up the hierarchy or through the generated
+ * {@link BindingIndex}. {@code depth} is the number of subclasses without bindings between the
+ * bound class and the target.
+ * <p>
+ * The {@link ClassLoadCounters} show the class loader requests and {@link ClassNotFoundException}s
+ * behind each score: probing makes {@code depth + 1} requests of which {@code depth} fail, while
+ * the index makes none once its class literals have been resolved. {@link #cachedBind} is every
+ * later binding, which is answered by one cache read whatever the depth.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BindingLookupBenchmark {
+  private static final String TARGET_PACKAGE = "butterknife.benchmarks.";
+  private static final String[] TARGETS = {
+      "butterknife.benchmarks.lookup.BoundTarget",
+      "butterknife.benchmarks.lookup.Subclass1",
+      "butterknife.benchmarks.lookup.Subclass2",
+      "butterknife.benchmarks.lookup.Subclass3",
+  };
+
+  @Param({ "0", "1", "3" })
+  public int depth;
+
+  @Param({ "probe", "index" })
+  public String lookup;
+
+  private CountingClassLoader classLoader;
+  private Object target;
+  private View source;
+
+  @Setup public void setUp() throws ReflectiveOperationException {
+    classLoader = new CountingClassLoader(getClass().getClassLoader(), TARGET_PACKAGE);
+    target = classLoader.loadClass(TARGETS[depth]).newInstance();
+
+    ButterKnife.INDEXES.clear();
+    if ("index".equals(lookup)) {
+      ButterKnife.addIndex((BindingIndex) classLoader
+          .loadClass("butterknife.benchmarks.BenchmarkBindingIndex")
+          .newInstance());
+    }
+
+    FrameLayout root = new FrameLayout(null);
+    View view = new View(null);
+    view.setId(1);
+    root.addView(view);
+    source = root;
+  }
+
+  @Benchmark public Unbinder firstBind(ClassLoadCounters counters) {
+    classLoader.counters = counters;
+    ButterKnife.BINDINGS.clear();
+    return ButterKnife.bind(target, source);
+  }
+
+  @Benchmark public Unbinder cachedBind() {
+    return ButterKnife.bind(target, source);
+  }
+}
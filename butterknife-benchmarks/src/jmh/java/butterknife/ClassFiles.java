@@ -0,0 +1,29 @@
+package butterknife;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+final class ClassFiles {
+  /** Returns the bytes of the class file resource {@code path}, or null if there is none. */
+  static byte[] read(ClassLoader classLoader, String path) throws ClassNotFoundException {
+    InputStream in = classLoader.getResourceAsStream(path);
+    if (in == null) {
+      return null;
+    }
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      for (int count; (count = in.read(buffer)) != -1; ) {
+        out.write(buffer, 0, count);
+      }
+      in.close();
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new ClassNotFoundException(path, e);
+    }
+  }
+
+  private ClassFiles() {
+  }
+}
@@ -0,0 +1,24 @@
+package butterknife;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Class loader requests reported next to the score of a benchmark. In throughput mode they are
+ * normalized the same way as the score, so dividing a counter by the score gives the number of
+ * requests per operation.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ClassLoadCounters {
+  public long loadClass;
+  public long classNotFound;
+
+  @Setup(Level.Iteration) public void reset() {
+    loadClass = 0;
+    classNotFound = 0;
+  }
+}
@@ -0,0 +1,38 @@
+package butterknife;
+
+/**
+ * Defines the benchmark target classes itself, rather than delegating to its parent, so that every
+ * class loader request made while looking up their bindings can be counted.
+ */
+final class CountingClassLoader extends ClassLoader {
+  private final String packagePrefix;
+  ClassLoadCounters counters = new ClassLoadCounters();
+
+  CountingClassLoader(ClassLoader parent, String packagePrefix) {
+    super(parent);
+    this.packagePrefix = packagePrefix;
+  }
+
+  @Override protected Class<?> loadClass(String name, boolean resolve)
+      throws ClassNotFoundException {
+    if (!name.startsWith(packagePrefix)) {
+      return super.loadClass(name, resolve);
+    }
+    synchronized (getClassLoadingLock(name)) {
+      counters.loadClass++;
+      Class<?> cls = findLoadedClass(name);
+      if (cls == null) {
+        byte[] bytes = ClassFiles.read(getParent(), name.replace('.', '/') + ".class");
+        if (bytes == null) {
+          counters.classNotFound++;
+          throw new ClassNotFoundException(name);
+        }
+        cls = defineClass(name, bytes, 0, bytes.length);
+      }
+      if (resolve) {
+        resolveClass(cls);
+      }
+      return cls;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Annotation processing of a generated module of {@code classes} source files, one in four of
+ * which binds ten views and a click listener through the module's {@code R} class. The sources
+ * are only processed, not compiled ({@code -proc:only}), so the score is javac parsing and
+ * entering the module plus the work of {@link ButterKnifeProcessor}, including writing the
+ * generated bindings with {@code parallelism} threads rendering them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessorBenchmark {
+  private static final int VIEWS = 10;
+
+  @Param({ "500", "2000", "8000" })
+  public int classes;
+
+  @Param({ "1", "4" })
+  public int parallelism;
+
+  private JavaCompiler compiler;
+  private StandardJavaFileManager fileManager;
+  private List<String> options;
+  private List<JavaFileObject> sources;
+  private Path output;
+
+  @Setup public void setUp() throws IOException {
+    compiler = ToolProvider.getSystemJavaCompiler();
+    fileManager = compiler.getStandardFileManager(null, null, UTF_8);
+    output = Files.createTempDirectory("processor-benchmark");
+    options = Arrays.asList("-proc:only", "-nowarn",
+        "-classpath", System.getProperty("java.class.path"),
+        "-s", output.toString(),
+        "-Abutterknife.parallelism=" + parallelism);
+    sources = new ArrayList<>(classes + 1);
+    sources.add(new Source("R", rClass()));
+    for (int i = 0; i < classes; i++) {
+      sources.add(new Source("Type" + i, type("Type" + i, i % 4 == 0)));
+    }
+    if (!process()) {
+      throw new IllegalStateException("Processing the generated module failed.");
+    }
+  }
+
+  @TearDown public void tearDown() throws IOException {
+    fileManager.close();
+    try (Stream<Path> paths = Files.walk(output)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark public boolean process() {
+    JavaCompiler.CompilationTask task =
+        compiler.getTask(null, fileManager, diagnostic -> { }, options, null, sources);
+    task.setProcessors(Collections.singletonList(new ButterKnifeProcessor()));
+    return task.call();
+  }
+
+  private static final class Source extends SimpleJavaFileObject {
+    private final String content;
+
+    Source(String name, String content) {
+      super(URI.create("string:///bench/" + name + ".java"), Kind.SOURCE);
+      this.content = content;
+    }
+
+    @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+
+  private static String type(String name, boolean bound) {
+    StringBuilder builder = new StringBuilder()
+        .append("package bench;\n")
+        .append("import android.view.View;\n")
+        .append("import butterknife.BindView;\n")
+        .append("import butterknife.OnClick;\n")
+        .append("public class ").append(name).append(" {\n");
+    for (int i = 0; i < VIEWS; i++) {
+      builder.append("  int field").append(i).append(";\n")
+          .append("  int method").append(i).append("(int value) {\n")
+          .append("    return field").append(i).append(" + value;\n")
+          .append("  }\n");
+      if (bound) {
+        builder.append("  @BindView(R.id.view").append(i).append(") View view").append(i)
+            .append(";\n");
+      }
+    }
+    if (bound) {
+      builder.append("  @OnClick(R.id.view0) void onClick() {}\n");
+    }
+    return builder.append("}\n").toString();
+  }
+
+  private static String rClass() {
+    StringBuilder builder = new StringBuilder()
+        .append("package bench;\n")
+        .append("public final class R {\n")
+        .append("  public static final class id {\n");
+    for (int i = 0; i < VIEWS; i++) {
+      builder.append("    public static final int view").append(i).append(" = ")
+          .append(0x7f010000 + i).append(";\n");
+    }
+    return builder.append("  }\n}\n").toString();
+  }
+}
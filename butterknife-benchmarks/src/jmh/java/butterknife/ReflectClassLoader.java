@@ -0,0 +1,40 @@
+package butterknife;
+
+/**
+ * Defines the {@code butterknife-reflect} classes, which are packaged as resources under
+ * {@code reflect/}, ahead of the code generating classes of the same names. Everything else is
+ * shared with the parent so both implementations bind the same targets and return the same
+ * {@link Unbinder} type.
+ */
+final class ReflectClassLoader extends ClassLoader {
+  private static final String RESOURCE_PREFIX = "reflect/";
+
+  ReflectClassLoader(ClassLoader parent) {
+    super(parent);
+  }
+
+  static UnbinderFactory createFactory() throws ReflectiveOperationException {
+    ClassLoader classLoader = new ReflectClassLoader(ReflectClassLoader.class.getClassLoader());
+    return (UnbinderFactory) classLoader.loadClass("butterknife.ReflectUnbinderFactory")
+        .newInstance();
+  }
+
+  @Override protected Class<?> loadClass(String name, boolean resolve)
+      throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> cls = findLoadedClass(name);
+      if (cls == null) {
+        String path = RESOURCE_PREFIX + name.replace('.', '/') + ".class";
+        byte[] bytes = ClassFiles.read(getParent(), path);
+        if (bytes == null) {
+          return super.loadClass(name, resolve);
+        }
+        cls = defineClass(name, bytes, 0, bytes.length);
+      }
+      if (resolve) {
+        resolveClass(cls);
+      }
+      return cls;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package butterknife;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import butterknife.internal.ViewTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Finding the views of 40 bound IDs with one {@code findViewById} walk per ID, which is what
+ * generated code does by default, compared to the single walk of {@link ViewTable} used when the
+ * {@code butterknife.singlePassFind} processor option is enabled.
+ * <p>
+ * The layout nests {@code depth} view groups, each holding {@code 200 / depth} unbound views
+ * followed by {@code 40 / depth} bound ones, so every lookup has to walk most of the tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ViewTableBenchmark {
+  private static final int BOUND_COUNT = 40;
+  private static final int UNBOUND_COUNT = 200;
+
+  @Param({ "1", "10" })
+  public int depth;
+
+  private final int[] ids = new int[BOUND_COUNT];
+  private View source;
+
+  @Setup public void setUp() {
+    for (int i = 0; i < BOUND_COUNT; i++) {
+      ids[i] = i + 1;
+    }
+
+    FrameLayout root = new FrameLayout(null);
+    ViewGroup parent = root;
+    int nextId = 1;
+    for (int level = 0; level < depth; level++) {
+      for (int i = 0; i < UNBOUND_COUNT / depth; i++) {
+        parent.addView(new View(null));
+      }
+      int bound = level == depth - 1 ? BOUND_COUNT - nextId + 1 : BOUND_COUNT / depth;
+      for (int i = 0; i < bound; i++) {
+        View view = new View(null);
+        view.setId(nextId++);
+        parent.addView(view);
+      }
+      FrameLayout child = new FrameLayout(null);
+      parent.addView(child);
+      parent = child;
+    }
+    source = root;
+  }
+
+  @Benchmark public void findViewById(Blackhole blackhole) {
+    for (int id : ids) {
+      blackhole.consume(source.findViewById(id));
+    }
+  }
+
+  @Benchmark public void viewTable(Blackhole blackhole) {
+    ViewTable views = ViewTable.find(source, ids);
+    for (int id : ids) {
+      blackhole.consume(views.findView(id));
+    }
+  }
+}
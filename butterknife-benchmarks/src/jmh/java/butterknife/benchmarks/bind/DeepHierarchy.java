@@ -0,0 +1,25 @@
+package butterknife.benchmarks.bind;
+
+/** Six levels of subclasses without bindings of their own below {@link OneView}. */
+public final class DeepHierarchy {
+  public static class Level1 extends OneView {
+  }
+
+  public static class Level2 extends Level1 {
+  }
+
+  public static class Level3 extends Level2 {
+  }
+
+  public static class Level4 extends Level3 {
+  }
+
+  public static class Level5 extends Level4 {
+  }
+
+  public static class Level6 extends Level5 {
+  }
+
+  private DeepHierarchy() {
+  }
+}
@@ -0,0 +1,57 @@
+package butterknife.benchmarks.bind;
+
+import android.view.View;
+import butterknife.BindView;
+
+public class FiftyViews {
+  @BindView(1) View view1;
+  @BindView(2) View view2;
+  @BindView(3) View view3;
+  @BindView(4) View view4;
+  @BindView(5) View view5;
+  @BindView(6) View view6;
+  @BindView(7) View view7;
+  @BindView(8) View view8;
+  @BindView(9) View view9;
+  @BindView(10) View view10;
+  @BindView(11) View view11;
+  @BindView(12) View view12;
+  @BindView(13) View view13;
+  @BindView(14) View view14;
+  @BindView(15) View view15;
+  @BindView(16) View view16;
+  @BindView(17) View view17;
+  @BindView(18) View view18;
+  @BindView(19) View view19;
+  @BindView(20) View view20;
+  @BindView(21) View view21;
+  @BindView(22) View view22;
+  @BindView(23) View view23;
+  @BindView(24) View view24;
+  @BindView(25) View view25;
+  @BindView(26) View view26;
+  @BindView(27) View view27;
+  @BindView(28) View view28;
+  @BindView(29) View view29;
+  @BindView(30) View view30;
+  @BindView(31) View view31;
+  @BindView(32) View view32;
+  @BindView(33) View view33;
+  @BindView(34) View view34;
+  @BindView(35) View view35;
+  @BindView(36) View view36;
+  @BindView(37) View view37;
+  @BindView(38) View view38;
+  @BindView(39) View view39;
+  @BindView(40) View view40;
+  @BindView(41) View view41;
+  @BindView(42) View view42;
+  @BindView(43) View view43;
+  @BindView(44) View view44;
+  @BindView(45) View view45;
+  @BindView(46) View view46;
+  @BindView(47) View view47;
+  @BindView(48) View view48;
+  @BindView(49) View view49;
+  @BindView(50) View view50;
+}
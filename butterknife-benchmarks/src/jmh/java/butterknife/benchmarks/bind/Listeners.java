@@ -0,0 +1,21 @@
+package butterknife.benchmarks.bind;
+
+import android.view.View;
+import butterknife.OnClick;
+import butterknife.OnFocusChange;
+import butterknife.OnLongClick;
+
+public class Listeners {
+  @OnClick({ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })
+  void onClick(View view) {
+  }
+
+  @OnLongClick({ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })
+  boolean onLongClick() {
+    return true;
+  }
+
+  @OnFocusChange({ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })
+  void onFocusChange(View view, boolean hasFocus) {
+  }
+}
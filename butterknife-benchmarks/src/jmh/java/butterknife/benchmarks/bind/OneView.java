@@ -0,0 +1,8 @@
+package butterknife.benchmarks.bind;
+
+import android.view.View;
+import butterknife.BindView;
+
+public class OneView {
+  @BindView(1) View view;
+}
@@ -0,0 +1,85 @@
+package butterknife.benchmarks.bind;
+
+import butterknife.OnClick;
+
+public class TwentyButtons {
+  @OnClick(1)
+  void click1() {
+  }
+
+  @OnClick(2)
+  void click2() {
+  }
+
+  @OnClick(3)
+  void click3() {
+  }
+
+  @OnClick(4)
+  void click4() {
+  }
+
+  @OnClick(5)
+  void click5() {
+  }
+
+  @OnClick(6)
+  void click6() {
+  }
+
+  @OnClick(7)
+  void click7() {
+  }
+
+  @OnClick(8)
+  void click8() {
+  }
+
+  @OnClick(9)
+  void click9() {
+  }
+
+  @OnClick(10)
+  void click10() {
+  }
+
+  @OnClick(11)
+  void click11() {
+  }
+
+  @OnClick(12)
+  void click12() {
+  }
+
+  @OnClick(13)
+  void click13() {
+  }
+
+  @OnClick(14)
+  void click14() {
+  }
+
+  @OnClick(15)
+  void click15() {
+  }
+
+  @OnClick(16)
+  void click16() {
+  }
+
+  @OnClick(17)
+  void click17() {
+  }
+
+  @OnClick(18)
+  void click18() {
+  }
+
+  @OnClick(19)
+  void click19() {
+  }
+
+  @OnClick(20)
+  void click20() {
+  }
+}
@@ -0,0 +1,8 @@
+package butterknife.benchmarks.lookup;
+
+import android.view.View;
+import butterknife.BindView;
+
+public class BoundTarget {
+  @BindView(1) View view;
+}
@@ -0,0 +1,5 @@
+package butterknife.benchmarks.lookup;
+
+/** A subclass without bindings of its own, 1 level below {@link BoundTarget}. */
+public class Subclass1 extends BoundTarget {
+}
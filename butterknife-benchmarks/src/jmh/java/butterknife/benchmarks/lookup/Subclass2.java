@@ -0,0 +1,5 @@
+package butterknife.benchmarks.lookup;
+
+/** A subclass without bindings of its own, 2 levels below {@link BoundTarget}. */
+public class Subclass2 extends Subclass1 {
+}
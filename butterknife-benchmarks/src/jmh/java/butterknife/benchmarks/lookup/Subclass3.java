@@ -0,0 +1,5 @@
+package butterknife.benchmarks.lookup;
+
+/** A subclass without bindings of its own, 3 levels below {@link BoundTarget}. */
+public class Subclass3 extends Subclass2 {
+}
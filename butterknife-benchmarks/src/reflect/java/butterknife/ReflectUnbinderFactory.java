@@ -0,0 +1,14 @@
+package butterknife;
+
+import android.view.View;
+import androidx.annotation.NonNull;
+
+/**
+ * Binds through {@code butterknife-reflect}. It is compiled and loaded alongside the reflect
+ * implementation of {@link ButterKnife}, which shares its name with the code generating one.
+ */
+public final class ReflectUnbinderFactory implements UnbinderFactory {
+  @NonNull @Override public Unbinder bind(@NonNull Object target, @NonNull View source) {
+    return ButterKnife.bind(target, source);
+  }
+}
@@ -0,0 +1,23 @@
+package androidx.core.content;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.graphics.drawable.Drawable;
+
+/** Stand-in for the AndroidX class so the runtime sources compile as a plain Java library. */
+public final class ContextCompat {
+  public static int getColor(Context context, int id) {
+    throw new UnsupportedOperationException();
+  }
+
+  public static ColorStateList getColorStateList(Context context, int id) {
+    throw new UnsupportedOperationException();
+  }
+
+  public static Drawable getDrawable(Context context, int id) {
+    throw new UnsupportedOperationException();
+  }
+
+  private ContextCompat() {
+  }
+}
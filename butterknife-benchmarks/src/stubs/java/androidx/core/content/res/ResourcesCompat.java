@@ -0,0 +1,14 @@
+package androidx.core.content.res;
+
+import android.content.Context;
+import android.graphics.Typeface;
+
+/** Stand-in for the AndroidX class so the runtime sources compile as a plain Java library. */
+public final class ResourcesCompat {
+  public static Typeface getFont(Context context, int id) {
+    throw new UnsupportedOperationException();
+  }
+
+  private ResourcesCompat() {
+  }
+}
@@ -0,0 +1,17 @@
+package androidx.core.graphics.drawable;
+
+import android.graphics.drawable.Drawable;
+
+/** Stand-in for the AndroidX class so the runtime sources compile as a plain Java library. */
+public final class DrawableCompat {
+  public static Drawable wrap(Drawable drawable) {
+    throw new UnsupportedOperationException();
+  }
+
+  public static void setTint(Drawable drawable, int tint) {
+    throw new UnsupportedOperationException();
+  }
+
+  private DrawableCompat() {
+  }
+}
@@ -0,0 +1,39 @@
+package androidx.viewpager.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+/** Stand-in for the AndroidX class so the reflect sources compile as a plain Java library. */
+public abstract class ViewPager extends ViewGroup {
+  public ViewPager(Context context) {
+    super(context);
+  }
+
+  public void addOnPageChangeListener(OnPageChangeListener listener) {
+    throw new UnsupportedOperationException();
+  }
+
+  public void removeOnPageChangeListener(OnPageChangeListener listener) {
+    throw new UnsupportedOperationException();
+  }
+
+  public interface OnPageChangeListener {
+    void onPageScrolled(int position, float positionOffset, int positionOffsetPixels);
+
+    void onPageSelected(int position);
+
+    void onPageScrollStateChanged(int state);
+  }
+
+  public static class SimpleOnPageChangeListener implements OnPageChangeListener {
+    @Override public void onPageScrolled(int position, float positionOffset,
+        int positionOffsetPixels) {
+    }
+
+    @Override public void onPageSelected(int position) {
+    }
+
+    @Override public void onPageScrollStateChanged(int state) {
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package butterknife.compiler;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.lang.model.element.TypeElement;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PUBLIC;
+
+/**
+ * Every binding generated during a compilation, collected across rounds so that a single
+ * {@code BindingIndex} implementation can be written once processing is over.
+ */
+final class BindingIndexSet {
+    private static final ClassName BINDING_INDEX = ClassName.get("butterknife", "BindingIndex");
+    private static final ClassName UNBINDER_FACTORY =
+            ClassName.get("butterknife", "UnbinderFactory");
+    private static final TypeName TARGET_CLASS = ParameterizedTypeName.get(
+            ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+
+    private final ClassName indexClassName;
+    /**
+     * 目标类的二进制名称(即Class.getName()的返回值)到生成的绑定类的映射,排序以保证生成的代码稳定
+     */
+    private final Map<String, ClassName> bindingClassNames = new TreeMap<>();
+    private final Set<TypeElement> originatingElements = new LinkedHashSet<>();
+
+    BindingIndexSet(ClassName indexClassName) {
+        this.indexClassName = indexClassName;
+    }
+
+    void add(String targetBinaryName, ClassName bindingClassName, TypeElement enclosingElement) {
+        bindingClassNames.put(targetBinaryName, bindingClassName);
+        originatingElements.add(enclosingElement);
+    }
+
+    JavaFile brewJava() {
+        TypeSpec.Builder result = TypeSpec.classBuilder(indexClassName.simpleName())
+                .addModifiers(PUBLIC, FINAL)
+                .addSuperinterface(BINDING_INDEX);
+        for (TypeElement originatingElement : originatingElements) {
+            result.addOriginatingElement(originatingElement);
+        }
+        result.addMethod(createGetBindingFactoryMethod());
+        result.addMethod(createGetTargetClassNamesMethod());
+
+        return JavaFile.builder(indexClassName.packageName(), result.build())
+                .addFileComment("Generated code from Butter Knife. Do not modify!")
+                .build();
+    }
+
+    /**
+     * 按类名进行switch直接返回绑定类的FACTORY,只有命中的绑定类才会被加载
+     */
+    private MethodSpec createGetBindingFactoryMethod() {
+        MethodSpec.Builder result = MethodSpec.methodBuilder("getBindingFactory")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(UNBINDER_FACTORY)
+                .addParameter(TARGET_CLASS, "targetClass");
+
+        result.beginControlFlow("switch (targetClass.getName())");
+        for (Map.Entry<String, ClassName> entry : bindingClassNames.entrySet()) {
+            result.addCode("case $S:\n", entry.getKey());
+            result.addCode("$>return $T.FACTORY;\n$<", entry.getValue());
+        }
+        result.addCode("default:\n");
+        result.addCode("$>return null;\n$<");
+        result.endControlFlow();
+        return result.build();
+    }
+
+    /**
+     * 返回所有目标类的名称,用于启动时在后台线程预先加载绑定类
+     */
+    private MethodSpec createGetTargetClassNamesMethod() {
+        CodeBlock.Builder names = CodeBlock.builder();
+        String separator = "";
+        for (String targetBinaryName : bindingClassNames.keySet()) {
+            names.add("$L\n$S", separator, targetBinaryName);
+            separator = ",";
+        }
+        return MethodSpec.methodBuilder("getTargetClassNames")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String[].class)
+                .addStatement("return new $T[] {$>$>$L$<$<\n}", String.class, names.build())
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import com.google.common.collect.ImmutableList;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -21,8 +22,10 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,15 +45,21 @@ import static java.util.Objects.requireNonNull;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
 
 /**
  * A set of all the bindings requested by a single type.
  */
 final class BindingSet implements BindingInformationProvider {
     static final ClassName UTILS = ClassName.get("butterknife.internal", "Utils");
+    private static final ClassName VIEW_TABLE = ClassName.get("butterknife.internal", "ViewTable");
+    private static final ClassName LAZY_VIEW = ClassName.get("butterknife", "LazyView");
     private static final ClassName VIEW = ClassName.get("android.view", "View");
     private static final ClassName CONTEXT = ClassName.get("android.content", "Context");
     private static final ClassName RESOURCES = ClassName.get("android.content.res", "Resources");
+    private static final ClassName TYPED_VALUE = ClassName.get("android.util", "TypedValue");
+    private static final ClassName ANY_THREAD =
+            ClassName.get("androidx.annotation", "AnyThread");
     private static final ClassName UI_THREAD =
             ClassName.get("androidx.annotation", "UiThread");
     private static final ClassName CALL_SUPER =
@@ -58,7 +67,13 @@ final class BindingSet implements BindingInformationProvider {
     private static final ClassName SUPPRESS_LINT =
             ClassName.get("android.annotation", "SuppressLint");
     private static final ClassName UNBINDER = ClassName.get("butterknife", "Unbinder");
+    private static final ClassName REBINDABLE = ClassName.get("butterknife", "Rebindable");
+    private static final ClassName COUNTED_UNBINDER_FACTORY =
+            ClassName.get("butterknife.internal", "CountedUnbinderFactory");
+    private static final ClassName UNBINDER_FACTORY =
+            ClassName.get("butterknife", "UnbinderFactory");
     static final ClassName BITMAP_FACTORY = ClassName.get("android.graphics", "BitmapFactory");
+    static final ClassName RESOURCE_CACHE = ClassName.get("butterknife", "ResourceCache");
     static final ClassName CONTEXT_COMPAT =
             ClassName.get("androidx.core.content", "ContextCompat");
     static final ClassName ANIMATION_UTILS =
@@ -107,10 +122,15 @@ final class BindingSet implements BindingInformationProvider {
      *
      * @param sdk
      * @param debuggable
+     * @param singlePassFind 是否只遍历一次View树查找所有的View
+     * @param rebindable 是否生成rebind方法,把已查找的View和监听器转交给新的target
+     * @param shareListeners 多个View绑定同一种监听器时是否共用一个按id分发的监听器
      * @return
      */
-    JavaFile brewJava(int sdk, boolean debuggable) {
-        TypeSpec bindingConfiguration = createType(sdk, debuggable);
+    JavaFile brewJava(int sdk, boolean debuggable, boolean singlePassFind, boolean rebindable,
+                      boolean shareListeners) {
+        TypeSpec bindingConfiguration =
+                createType(sdk, debuggable, singlePassFind, rebindable, shareListeners);
         return JavaFile.builder(bindingClassName.packageName(), bindingConfiguration)
                 .addFileComment("Generated code from Butter Knife. Do not modify!")
                 .build();
@@ -121,9 +141,13 @@ final class BindingSet implements BindingInformationProvider {
      *
      * @param sdk
      * @param debuggable
+     * @param singlePassFind
+     * @param rebindable
+     * @param shareListeners
      * @return
      */
-    private TypeSpec createType(int sdk, boolean debuggable) {
+    private TypeSpec createType(int sdk, boolean debuggable, boolean singlePassFind,
+                                boolean rebindable, boolean shareListeners) {
         //最终的生成的绑定类,比如:public class IndexActivity_ViewBinding implements Unbinder
         TypeSpec.Builder result = TypeSpec.classBuilder(bindingClassName.simpleName())
                 .addModifiers(PUBLIC)
@@ -137,12 +161,16 @@ final class BindingSet implements BindingInformationProvider {
         if (parentBinding != null) {
             result.superclass(parentBinding.getBindingClassName());
         } else {
-            //继承自Unbinder接口
-            result.addSuperinterface(UNBINDER);
+            //继承自Unbinder接口,需要rebind时继承自Rebindable接口
+            result.addSuperinterface(rebindable ? REBINDABLE : UNBINDER);
         }
 
+        //供ButterKnife.bind()直接调用的工厂,不再需要通过反射调用构造方法
+        //构造方法中查找View的次数由工厂报告,只在安装了BindingListener时由ButterKnife读取
+        result.addField(createBindingFactoryField(getFindViewCount(debuggable, singlePassFind)));
+
         //添加target字段: private TestActivity target;
-        if (hasTargetField()) {
+        if (hasTargetField(rebindable)) {
             result.addField(targetTypeName, "target", PRIVATE);
         }
 
@@ -162,15 +190,36 @@ final class BindingSet implements BindingInformationProvider {
             //添加一个标记为过期的方法
             result.addMethod(createBindingViewDelegateConstructor());
         }
-        result.addMethod(createBindingConstructor(sdk, debuggable));
+        result.addMethod(createBindingConstructor(sdk, debuggable, singlePassFind, rebindable,
+                shareListeners));
+
+        if (hasViewBindings() || parentBinding == null || hasTargetField(rebindable)) {
+            result.addMethod(createBindingUnbindMethod(result, rebindable));
+        }
 
-        if (hasViewBindings() || parentBinding == null) {
-            result.addMethod(createBindingUnbindMethod(result));
+        if (rebindable) {
+            result.addMethod(createBindingRebindMethod());
         }
 
         return result.build();
     }
 
+    /**
+     * public static final UnbinderFactory FACTORY =
+     * (target, source) -> new TestActivity_ViewBinding((TestActivity) target, source);
+     */
+    private FieldSpec createBindingFactoryField(int findViewCount) {
+        CodeBlock factory = CodeBlock.of("(target, source) -> new $T(($T) target, source)",
+                bindingClassName, targetTypeName);
+        if (findViewCount > 0) {
+            factory = CodeBlock.of("new $T($L, $L)", COUNTED_UNBINDER_FACTORY, findViewCount,
+                    factory);
+        }
+        return FieldSpec.builder(UNBINDER_FACTORY, "FACTORY", PUBLIC, STATIC, FINAL)
+                .initializer(factory)
+                .build();
+    }
+
     /**
      * @Deprecated
      * @UiThread public TestActivity1_ViewBinding(TestActivity1 target, View source) {
@@ -255,6 +304,9 @@ final class BindingSet implements BindingInformationProvider {
      *
      * @param sdk
      * @param debuggable
+     * @param singlePassFind
+     * @param rebindable
+     * @param shareListeners
      * @return
      * @UiThread public TestActivity_ViewBinding(TestActivity target, View source) {
      * super(target, source);
@@ -271,9 +323,13 @@ final class BindingSet implements BindingInformationProvider {
      * target.action_common_quit = res.getString(R.string.action_common_quit);
      * }
      */
-    private MethodSpec createBindingConstructor(int sdk, boolean debuggable) {
+    private MethodSpec createBindingConstructor(int sdk, boolean debuggable,
+                                                boolean singlePassFind, boolean rebindable,
+                                                boolean shareListeners) {
+        //只绑定资源时不涉及View,可以在工作线程中预先创建.父类的构造方法可能来自旧版本生成的代码,只能在主线程调用
+        boolean anyThread = parentBinding == null && !constructorNeedsView();
         MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
-                .addAnnotation(UI_THREAD)
+                .addAnnotation(anyThread ? ANY_THREAD : UI_THREAD)
                 .addModifiers(PUBLIC);
 
         //是否有事件相关的绑定,比普通方法target多了个final修饰符,因为事件回调的匿名类中会用到target
@@ -317,7 +373,7 @@ final class BindingSet implements BindingInformationProvider {
         }
 
         //this.target = target;
-        if (hasTargetField()) {
+        if (hasTargetField(rebindable)) {
             constructor.addStatement("this.target = target");
             constructor.addCode("\n");
         }
@@ -331,6 +387,30 @@ final class BindingSet implements BindingInformationProvider {
                 constructor.addStatement("$T view", VIEW);
             }
 
+            //查找的View多于一个时,只遍历一次View树,之后从ViewTable中按id取出View
+            //ViewTable views = ViewTable.find(source, R.id.btnOk, R.id.btnCancel);
+            Set<Id> lookupIds = getLookupIds();
+            boolean singlePass = singlePassFind && lookupIds.size() > 1;
+            if (singlePass) {
+                CodeBlock.Builder find = CodeBlock.builder()
+                        .add("$T views = $T.find(source", VIEW_TABLE, VIEW_TABLE);
+                for (Id id : lookupIds) {
+                    find.add(",\n$L", id.code);
+                }
+                constructor.addStatement("$L)", find.build());
+            }
+
+            //多个View绑定同一种监听器时只创建一个监听器,回调中按View的id分发
+            //DebouncingOnClickListener onClickListener = new DebouncingOnClickListener() {...};
+            Map<ListenerClass, String> sharedListeners = shareListeners
+                    ? getSharedListeners()
+                    : Collections.<ListenerClass, String>emptyMap();
+            for (Map.Entry<ListenerClass, String> e : sharedListeners.entrySet()) {
+                ListenerClass listener = e.getKey();
+                constructor.addStatement("$T $N = $L", bestGuess(listener.type()), e.getValue(),
+                        createSharedListener(listener, debuggable, rebindable));
+            }
+
             /**
              * 添加view查找绑定的代码
              * view = Utils.findRequiredView(source, R.id.btnOk, "field 'btnOk' and method 'login'");
@@ -338,11 +418,12 @@ final class BindingSet implements BindingInformationProvider {
              *     view7f090064 = view;
              */
             for (ViewBinding binding : viewBindings) {
-                addViewBinding(constructor, binding, debuggable);
+                addViewBinding(constructor, binding, debuggable, singlePass, rebindable,
+                        sharedListeners);
             }
 
             for (FieldCollectionViewBinding binding : collectionBindings) {
-                constructor.addStatement("$L", binding.render(debuggable));
+                constructor.addStatement("$L", binding.render(debuggable, singlePass));
             }
 
             if (!resourceBindings.isEmpty()) {
@@ -357,15 +438,59 @@ final class BindingSet implements BindingInformationProvider {
             if (hasResourceBindingsNeedingResource(sdk)) {
                 constructor.addStatement("$T res = context.getResources()", RESOURCES);
             }
-            for (ResourceBinding binding : resourceBindings) {
-                constructor.addStatement("$L", binding.render(sdk));
-            }
+            addResourceBindings(constructor, sdk);
         }
 
         return constructor.build();
     }
 
-    private MethodSpec createBindingUnbindMethod(TypeSpec.Builder bindingClass) {
+    /**
+     * 添加资源绑定代码,可以使用TypedValue的绑定排在前面,有多个时共用一个TypedValue
+     * <p>
+     * TypedValue value = new TypedValue();
+     * target.width = Utils.getDimensionPixelSize(res, R.dimen.width, value);
+     * target.height = target.width;
+     * target.title = res.getString(R.string.title);
+     * <p>
+     * 绑定到同一资源的不可变值只查找一次,之后的字段直接复用第一个字段的值
+     */
+    private void addResourceBindings(MethodSpec.Builder constructor, int sdk) {
+        List<ResourceBinding> bindings = new ArrayList<>(resourceBindings.size());
+        Set<String> typedValueLookups = new LinkedHashSet<>();
+        for (ResourceBinding binding : resourceBindings) {
+            if (binding.canUseTypedValue()) {
+                bindings.add(binding);
+                typedValueLookups.add(binding.renderValue(sdk, true).toString());
+            }
+        }
+        for (ResourceBinding binding : resourceBindings) {
+            if (!binding.canUseTypedValue()) {
+                bindings.add(binding);
+            }
+        }
+
+        //只有一次查找时Resources内部的临时TypedValue就够了
+        boolean typedValue = typedValueLookups.size() > 1;
+        if (typedValue) {
+            constructor.addStatement("$T value = new $T()", TYPED_VALUE, TYPED_VALUE);
+        }
+
+        Map<String, String> sharedFields = new LinkedHashMap<>();
+        for (ResourceBinding binding : bindings) {
+            CodeBlock value = binding.renderValue(sdk, typedValue);
+            String sharedField = binding.isShareable()
+                    ? sharedFields.putIfAbsent(value.toString(), binding.name())
+                    : null;
+            if (sharedField != null) {
+                constructor.addStatement("target.$L = target.$L", binding.name(), sharedField);
+            } else {
+                constructor.addStatement("target.$L = $L", binding.name(), value);
+            }
+        }
+    }
+
+    private MethodSpec createBindingUnbindMethod(TypeSpec.Builder bindingClass,
+                                                 boolean rebindable) {
         MethodSpec.Builder result = MethodSpec.methodBuilder("unbind")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC);
@@ -373,7 +498,7 @@ final class BindingSet implements BindingInformationProvider {
             result.addAnnotation(CALL_SUPER);
         }
 
-        if (hasTargetField()) {
+        if (hasTargetField(rebindable)) {
             if (hasFieldBindings()) {
                 result.addStatement("$T target = this.target", targetTypeName);
             }
@@ -405,6 +530,57 @@ final class BindingSet implements BindingInformationProvider {
         return result.build();
     }
 
+    /**
+     * 把当前target上绑定的字段复制到新的target,并让监听器之后调用新的target
+     * <p>
+     * public void rebind(Object target) {
+     * TestActivity oldTarget = this.target;
+     * if (oldTarget == null) throw new IllegalStateException("Bindings already cleared.");
+     * TestActivity newTarget = (TestActivity) target;
+     * this.target = newTarget;
+     * newTarget.btnOk = oldTarget.btnOk;
+     * }
+     */
+    private MethodSpec createBindingRebindMethod() {
+        MethodSpec.Builder result = MethodSpec.methodBuilder("rebind")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(Object.class, "target");
+        if (!isFinal && parentBinding == null) {
+            result.addAnnotation(CALL_SUPER);
+        }
+
+        result.addStatement("$T oldTarget = this.target", targetTypeName);
+        result.addStatement("if (oldTarget == null) throw new $T($S)",
+                IllegalStateException.class, "Bindings already cleared.");
+        result.addStatement("$T newTarget = ($T) target", targetTypeName, targetTypeName);
+        result.addStatement("this.target = newTarget");
+        result.addCode("\n");
+
+        for (ViewBinding binding : viewBindings) {
+            FieldViewBinding fieldBinding = binding.getFieldBinding();
+            if (fieldBinding != null) {
+                addCopyStatement(result, fieldBinding.getName());
+            }
+        }
+        for (FieldCollectionViewBinding binding : collectionBindings) {
+            addCopyStatement(result, binding.name);
+        }
+        for (ResourceBinding binding : resourceBindings) {
+            addCopyStatement(result, binding.name());
+        }
+
+        if (parentBinding != null) {
+            result.addCode("\n");
+            result.addStatement("super.rebind(target)");
+        }
+        return result.build();
+    }
+
+    private static void addCopyStatement(MethodSpec.Builder result, String fieldName) {
+        result.addStatement("newTarget.$L = oldTarget.$L", fieldName, fieldName);
+    }
+
     private void addFieldAndUnbindStatement(TypeSpec.Builder result, MethodSpec.Builder unbindMethod,
                                             ViewBinding bindings) {
         // Only add fields to the binding if there are method bindings.
@@ -470,13 +646,22 @@ final class BindingSet implements BindingInformationProvider {
      * @param result
      * @param binding
      * @param debuggable
+     * @param singlePass 是否从ViewTable中取出View
+     * @param rebindable 监听器是否通过绑定类的target字段调用目标方法
+     * @param sharedListeners 共用的监听器到其局部变量名的映射
      */
-    private void addViewBinding(MethodSpec.Builder result, ViewBinding binding, boolean debuggable) {
+    private void addViewBinding(MethodSpec.Builder result, ViewBinding binding, boolean debuggable,
+                                boolean singlePass, boolean rebindable,
+                                Map<ListenerClass, String> sharedListeners) {
         //我们的BindView这里会为true
         if (binding.isSingleFieldBinding()) {
             // Optimize the common case where there's a single binding directly to a field.
             //获取字段相关信息
             FieldViewBinding fieldBinding = requireNonNull(binding.getFieldBinding());
+            if (fieldBinding.isLazy()) {
+                addLazyFieldBinding(result, binding.getId(), fieldBinding);
+                return;
+            }
             CodeBlock.Builder builder = CodeBlock.builder()
                     .add("target.$L = ", fieldBinding.getName());
 
@@ -486,18 +671,17 @@ final class BindingSet implements BindingInformationProvider {
                 if (requiresCast) {
                     builder.add("($T) ", fieldBinding.getType());
                 }
-                builder.add("source.findViewById($L)", binding.getId().code);
+                builder.add("$L)", findCall(singlePass, "findView", binding.getId()));
             } else {
                 /**
                  *     view = Utils.findRequiredView(source, R.id.btnOk, "field 'btnOk' and method 'login'");
                  */
-                builder.add("$T.find", UTILS);
                 //判断字段是否必须有值,没有被Nullable修饰
-                builder.add(fieldBinding.isRequired() ? "RequiredView" : "OptionalView");
+                String method = fieldBinding.isRequired() ? "findRequiredView" : "findOptionalView";
                 if (requiresCast) {
-                    builder.add("AsType");
+                    method += "AsType";
                 }
-                builder.add("(source, $L", binding.getId().code);
+                builder.add(findCall(singlePass, method, binding.getId()));
                 if (fieldBinding.isRequired() || requiresCast) {
                     builder.add(", $S", asHumanDescription(singletonList(fieldBinding)));
                 }
@@ -512,15 +696,72 @@ final class BindingSet implements BindingInformationProvider {
 
         List<MemberViewBinding> requiredBindings = binding.getRequiredBindings();
         if (!debuggable || requiredBindings.isEmpty()) {
-            result.addStatement("view = source.findViewById($L)", binding.getId().code);
+            result.addStatement("view = $L)", findCall(singlePass, "findView", binding.getId()));
         } else if (!binding.isBoundToRoot()) {
-            result.addStatement("view = $T.findRequiredView(source, $L, $S)", UTILS,
-                    binding.getId().code, asHumanDescription(requiredBindings));
+            result.addStatement("view = $L, $S)",
+                    findCall(singlePass, "findRequiredView", binding.getId()),
+                    asHumanDescription(requiredBindings));
         }
 
         //添加字段绑定代码
         addFieldBinding(result, binding, debuggable);
-        addMethodBindings(result, binding, debuggable);
+        addMethodBindings(result, binding, debuggable, rebindable, sharedListeners);
+    }
+
+    /**
+     * 查找View的调用,不包含右括号,
+     * 比如Utils.findRequiredView(source, R.id.btnOk 或单次遍历时的 views.findRequiredView(R.id.btnOk
+     */
+    static CodeBlock findCall(boolean singlePass, String method, Id id) {
+        if (singlePass) {
+            return CodeBlock.of("views.$L($L", method, id.code);
+        }
+        return "findView".equals(method)
+                ? CodeBlock.of("source.findViewById($L", id.code)
+                : CodeBlock.of("$T.$L(source, $L", UTILS, method, id.code);
+    }
+
+    /**
+     * 构造方法中遍历View树查找View的次数,和{@link #addViewBinding}以及
+     * {@link FieldCollectionViewBinding#render}生成的查找调用一一对应.父类的次数由父类的绑定类记录
+     */
+    private int getFindViewCount(boolean debuggable, boolean singlePassFind) {
+        if (singlePassFind && getLookupIds().size() > 1) {
+            return 1;
+        }
+        int count = 0;
+        for (ViewBinding binding : viewBindings) {
+            if (binding.isSingleFieldBinding()) {
+                if (!requireNonNull(binding.getFieldBinding()).isLazy()) {
+                    count++;
+                }
+            } else if (!debuggable || binding.getRequiredBindings().isEmpty()
+                    || !binding.isBoundToRoot()) {
+                count++;
+            }
+        }
+        for (FieldCollectionViewBinding binding : collectionBindings) {
+            count += binding.ids.size();
+        }
+        return count;
+    }
+
+    /**
+     * 构造方法中需要从source中查找的所有View的id,绑定到source本身的和LazyView字段不需要查找
+     */
+    private Set<Id> getLookupIds() {
+        Set<Id> ids = new LinkedHashSet<>();
+        for (ViewBinding binding : viewBindings) {
+            FieldViewBinding fieldBinding = binding.getFieldBinding();
+            boolean lazy = binding.isSingleFieldBinding() && requireNonNull(fieldBinding).isLazy();
+            if (!binding.isBoundToRoot() && !lazy) {
+                ids.add(binding.getId());
+            }
+        }
+        for (FieldCollectionViewBinding binding : collectionBindings) {
+            ids.addAll(binding.ids);
+        }
+        return ids;
     }
 
     /**
@@ -534,7 +775,9 @@ final class BindingSet implements BindingInformationProvider {
      */
     private void addFieldBinding(MethodSpec.Builder result, ViewBinding binding, boolean debuggable) {
         FieldViewBinding fieldBinding = binding.getFieldBinding();
-        if (fieldBinding != null) {
+        if (fieldBinding != null && fieldBinding.isLazy()) {
+            addLazyFieldBinding(result, binding.getId(), fieldBinding);
+        } else if (fieldBinding != null) {
             //需要转换view
             if (requiresCast(fieldBinding.getType())) {
                 if (debuggable) {
@@ -551,8 +794,21 @@ final class BindingSet implements BindingInformationProvider {
         }
     }
 
+    /**
+     * LazyView字段只记录查找View需要的信息,在第一次调用get()时才查找
+     * <p>
+     * target.details = LazyView.required(source, R.id.details, "field 'details'", TextView.class);
+     */
+    private void addLazyFieldBinding(MethodSpec.Builder result, Id id,
+                                     FieldViewBinding fieldBinding) {
+        result.addStatement("target.$L = $T.$L(source, $L, $S, $T.class)", fieldBinding.getName(),
+                LAZY_VIEW, fieldBinding.isRequired() ? "required" : "optional", id.code,
+                asHumanDescription(singletonList(fieldBinding)), fieldBinding.getRawType());
+    }
+
     private void addMethodBindings(MethodSpec.Builder result, ViewBinding binding,
-                                   boolean debuggable) {
+                                   boolean debuggable, boolean rebindable,
+                                   Map<ListenerClass, String> sharedListeners) {
         Map<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> classMethodBindings =
                 binding.getMethodBindings();
         if (classMethodBindings.isEmpty()) {
@@ -579,10 +835,23 @@ final class BindingSet implements BindingInformationProvider {
             ListenerClass listener = e.getKey();
             Map<ListenerMethod, Set<MethodViewBinding>> methodBindings = e.getValue();
 
-            TypeSpec.Builder callback = TypeSpec.anonymousClassBuilder("")
-                    .superclass(ClassName.bestGuess(listener.type()));
+            String sharedListener = sharedListeners.get(listener);
+            if (sharedListener != null) {
+                addSetListenerStatement(result, listener, bindName,
+                        CodeBlock.of("$N", sharedListener));
+                continue;
+            }
+
+            //有空实现的适配器时,继承适配器并只重写绑定了的回调方法
+            boolean hasAdapter = !listener.adapter().isEmpty();
+            TypeSpec.Builder callback = listenerClassBuilder(getDebounceMillis(methodBindings))
+                    .superclass(ClassName.bestGuess(
+                            hasAdapter ? listener.adapter() : listener.type()));
 
             for (ListenerMethod method : getListenerMethods(listener)) {
+                if (hasAdapter && !methodBindings.containsKey(method)) {
+                    continue;
+                }
                 MethodSpec.Builder callbackMethod = MethodSpec.methodBuilder(method.name())
                         .addAnnotation(Override.class)
                         .addModifiers(PUBLIC)
@@ -596,36 +865,8 @@ final class BindingSet implements BindingInformationProvider {
                 CodeBlock.Builder builder = CodeBlock.builder();
                 Set<MethodViewBinding> methodViewBindings = methodBindings.get(method);
                 if (methodViewBindings != null) {
-                    for (MethodViewBinding methodBinding : methodViewBindings) {
-                        if (methodBinding.hasReturnValue()) {
-                            hasReturnValue = true;
-                            builder.add("return "); // TODO what about multiple methods?
-                        }
-                        builder.add("target.$L(", methodBinding.getName());
-                        List<Parameter> parameters = methodBinding.getParameters();
-                        String[] listenerParameters = method.parameters();
-                        for (int i = 0, count = parameters.size(); i < count; i++) {
-                            if (i > 0) {
-                                builder.add(", ");
-                            }
-
-                            Parameter parameter = parameters.get(i);
-                            int listenerPosition = parameter.getListenerPosition();
-
-                            if (parameter.requiresCast(listenerParameters[listenerPosition])) {
-                                if (debuggable) {
-                                    builder.add("$T.castParam(p$L, $S, $L, $S, $L, $T.class)", UTILS,
-                                            listenerPosition, method.name(), listenerPosition, methodBinding.getName(), i,
-                                            parameter.getType());
-                                } else {
-                                    builder.add("($T) p$L", parameter.getType(), listenerPosition);
-                                }
-                            } else {
-                                builder.add("p$L", listenerPosition);
-                            }
-                        }
-                        builder.add(");\n");
-                    }
+                    hasReturnValue = addListenerCalls(builder, method, methodViewBindings,
+                            debuggable, rebindable);
                 }
 
                 if (!"void".equals(method.returnType()) && !hasReturnValue) {
@@ -644,14 +885,8 @@ final class BindingSet implements BindingInformationProvider {
                 result.addStatement("$L = $L", listenerField, callback.build());
             }
 
-            String targetType = listener.targetType();
-            if (!VIEW_TYPE.equals(targetType)) {
-                result.addStatement("(($T) $N).$L($L)", bestGuess(targetType), bindName,
-                        listener.setter(), requiresRemoval ? listenerField : callback.build());
-            } else {
-                result.addStatement("$N.$L($L)", bindName, listener.setter(),
-                        requiresRemoval ? listenerField : callback.build());
-            }
+            addSetListenerStatement(result, listener, bindName,
+                    requiresRemoval ? CodeBlock.of("$L", listenerField) : callback.build());
         }
 
         if (needsNullChecked) {
@@ -659,6 +894,214 @@ final class BindingSet implements BindingInformationProvider {
         }
     }
 
+    private static void addSetListenerStatement(MethodSpec.Builder result, ListenerClass listener,
+                                                String bindName, Object listenerValue) {
+        String targetType = listener.targetType();
+        if (!VIEW_TYPE.equals(targetType)) {
+            result.addStatement("(($T) $N).$L($L)", bestGuess(targetType), bindName,
+                    listener.setter(), listenerValue);
+        } else {
+            result.addStatement("$N.$L($L)", bindName, listener.setter(), listenerValue);
+        }
+    }
+
+    /**
+     * 添加调用目标方法的代码,比如 target.login(p0);
+     *
+     * @return 是否已经返回了目标方法的返回值
+     */
+    private boolean addListenerCalls(CodeBlock.Builder builder, ListenerMethod method,
+                                     Set<MethodViewBinding> methodViewBindings,
+                                     boolean debuggable, boolean rebindable) {
+        boolean hasReturnValue = false;
+        for (MethodViewBinding methodBinding : methodViewBindings) {
+            if (methodBinding.hasReturnValue()) {
+                hasReturnValue = true;
+                builder.add("return "); // TODO what about multiple methods?
+            }
+            if (rebindable) {
+                //rebind之后监听器调用新的target
+                builder.add("$T.this.target.$L(", bindingClassName, methodBinding.getName());
+            } else {
+                builder.add("target.$L(", methodBinding.getName());
+            }
+            List<Parameter> parameters = methodBinding.getParameters();
+            String[] listenerParameters = method.parameters();
+            for (int i = 0, count = parameters.size(); i < count; i++) {
+                if (i > 0) {
+                    builder.add(", ");
+                }
+
+                Parameter parameter = parameters.get(i);
+                int listenerPosition = parameter.getListenerPosition();
+
+                if (parameter.requiresCast(listenerParameters[listenerPosition])) {
+                    if (debuggable) {
+                        builder.add("$T.castParam(p$L, $S, $L, $S, $L, $T.class)", UTILS,
+                                listenerPosition, method.name(), listenerPosition, methodBinding.getName(), i,
+                                parameter.getType());
+                    } else {
+                        builder.add("($T) p$L", parameter.getType(), listenerPosition);
+                    }
+                } else {
+                    builder.add("p$L", listenerPosition);
+                }
+            }
+            builder.add(");\n");
+        }
+        return hasReturnValue;
+    }
+
+    /**
+     * 可以共用监听器的监听器类型到局部变量名的映射,比如OnClick -> onClickListener
+     * <p>
+     * 只有不需要移除、回调的第一个参数就是被设置监听器的View、并且至少有两个View绑定时才共用
+     */
+    private Map<ListenerClass, String> getSharedListeners() {
+        Map<ListenerClass, Integer> counts = new LinkedHashMap<>();
+        //防抖时间窗口不同的View不能共用一个监听器
+        Map<ListenerClass, Set<Long>> debounceMillis = new LinkedHashMap<>();
+        for (ViewBinding binding : viewBindings) {
+            if (binding.isBoundToRoot()) {
+                continue;
+            }
+            for (Map.Entry<ListenerClass, Map<ListenerMethod, Set<MethodViewBinding>>> e
+                    : binding.getMethodBindings().entrySet()) {
+                ListenerClass listener = e.getKey();
+                Integer count = counts.get(listener);
+                counts.put(listener, count == null ? 1 : count + 1);
+                if (!debounceMillis.containsKey(listener)) {
+                    debounceMillis.put(listener, new LinkedHashSet<>());
+                }
+                debounceMillis.get(listener).add(getDebounceMillis(e.getValue()));
+            }
+        }
+
+        Map<ListenerClass, String> sharedListeners = new LinkedHashMap<>();
+        for (Map.Entry<ListenerClass, Integer> e : counts.entrySet()) {
+            ListenerClass listener = e.getKey();
+            if (e.getValue() > 1 && debounceMillis.get(listener).size() == 1
+                    && canShareListener(listener)) {
+                //setOnClickListener -> onClickListener
+                String name = listener.setter().substring(3);
+                sharedListeners.put(listener,
+                        Character.toLowerCase(name.charAt(0)) + name.substring(1));
+            }
+        }
+        return sharedListeners;
+    }
+
+    private static boolean canShareListener(ListenerClass listener) {
+        if (!listener.remover().isEmpty()) {
+            return false;
+        }
+        for (ListenerMethod method : getListenerMethods(listener)) {
+            String[] parameters = method.parameters();
+            if (parameters.length == 0
+                    || !(VIEW_TYPE.equals(parameters[0])
+                    || listener.targetType().equals(parameters[0]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 所有View共用的监听器,按回调中View的id调用对应的目标方法
+     * <p>
+     * new DebouncingOnClickListener() {
+     * public void doClick(View p0) {
+     * int id = p0.getId();
+     * if (id == R.id.btnOk) {
+     * target.login();
+     * } else if (id == R.id.btnCancel) {
+     * target.cancel();
+     * }
+     * }
+     * }
+     * <p>
+     * 使用if而不是switch,因为library中的R.id不是常量
+     */
+    private TypeSpec createSharedListener(ListenerClass listener, boolean debuggable,
+                                          boolean rebindable) {
+        boolean hasAdapter = !listener.adapter().isEmpty();
+        long debounceMillis = 0;
+        for (ViewBinding binding : viewBindings) {
+            Map<ListenerMethod, Set<MethodViewBinding>> methodBindings =
+                    binding.getMethodBindings().get(listener);
+            if (!binding.isBoundToRoot() && methodBindings != null) {
+                debounceMillis = getDebounceMillis(methodBindings);
+            }
+        }
+        TypeSpec.Builder callback = listenerClassBuilder(debounceMillis)
+                .superclass(ClassName.bestGuess(hasAdapter ? listener.adapter() : listener.type()));
+
+        for (ListenerMethod method : getListenerMethods(listener)) {
+            CodeBlock.Builder builder = CodeBlock.builder();
+            boolean first = true;
+            for (ViewBinding binding : viewBindings) {
+                Map<ListenerMethod, Set<MethodViewBinding>> methodBindings =
+                        binding.getMethodBindings().get(listener);
+                if (binding.isBoundToRoot() || methodBindings == null
+                        || !methodBindings.containsKey(method)) {
+                    continue;
+                }
+                if (first) {
+                    builder.addStatement("int id = p0.getId()");
+                    builder.beginControlFlow("if (id == $L)", binding.getId().code);
+                    first = false;
+                } else {
+                    builder.nextControlFlow("else if (id == $L)", binding.getId().code);
+                }
+                addListenerCalls(builder, method, methodBindings.get(method), debuggable,
+                        rebindable);
+            }
+            if (first && hasAdapter) {
+                continue;
+            }
+            if (!first) {
+                builder.endControlFlow();
+            }
+            if (!"void".equals(method.returnType())) {
+                builder.addStatement("return $L", method.defaultReturn());
+            }
+
+            MethodSpec.Builder callbackMethod = MethodSpec.methodBuilder(method.name())
+                    .addAnnotation(Override.class)
+                    .addModifiers(PUBLIC)
+                    .returns(bestGuess(method.returnType()));
+            String[] parameterTypes = method.parameters();
+            for (int i = 0, count = parameterTypes.length; i < count; i++) {
+                callbackMethod.addParameter(bestGuess(parameterTypes[i]), "p" + i);
+            }
+            callback.addMethod(callbackMethod.addCode(builder.build()).build());
+        }
+        return callback.build();
+    }
+
+    /**
+     * 同一个View上绑定的多个方法中最长的防抖时间窗口
+     */
+    private static long getDebounceMillis(
+            Map<ListenerMethod, Set<MethodViewBinding>> methodBindings) {
+        long debounceMillis = 0;
+        for (Set<MethodViewBinding> bindings : methodBindings.values()) {
+            for (MethodViewBinding binding : bindings) {
+                debounceMillis = Math.max(debounceMillis, binding.getDebounceMillis());
+            }
+        }
+        return debounceMillis;
+    }
+
+    /**
+     * 有防抖时间窗口时传给监听器的构造方法,比如 new DebouncingOnClickListener(300) {...}
+     */
+    private static TypeSpec.Builder listenerClassBuilder(long debounceMillis) {
+        return debounceMillis > 0
+                ? TypeSpec.anonymousClassBuilder("$L", debounceMillis)
+                : TypeSpec.anonymousClassBuilder("");
+    }
+
     private static List<ListenerMethod> getListenerMethods(ListenerClass listener) {
         if (listener.method().length == 1) {
             return Arrays.asList(listener.method());
@@ -800,8 +1243,12 @@ final class BindingSet implements BindingInformationProvider {
         return !collectionBindings.isEmpty();
     }
 
-    private boolean hasTargetField() {
-        return hasFieldBindings() || hasMethodBindings();
+    /**
+     * 需要rebind时,只有资源绑定也需要target字段,用来把资源字段复制到新的target
+     */
+    private boolean hasTargetField(boolean rebindable) {
+        return hasFieldBindings() || hasMethodBindings()
+                || (rebindable && !resourceBindings.isEmpty());
     }
 
     private boolean hasViewLocal() {
@@ -29,10 +29,10 @@ import butterknife.compiler.FieldTypefaceBinding.TypefaceStyles;
 import butterknife.internal.ListenerClass;
 import butterknife.internal.ListenerMethod;
 
-import com.google.auto.common.SuperficialValidation;
 import com.google.auto.service.AutoService;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.TypeName;
 import com.sun.source.util.Trees;
@@ -44,6 +44,7 @@ import com.sun.tools.javac.tree.TreeScanner;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -51,6 +52,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -58,6 +60,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import javax.annotation.Nullable;
 import javax.annotation.processing.AbstractProcessor;
@@ -79,8 +83,10 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
 
 import net.ltgt.gradle.incap.IncrementalAnnotationProcessor;
 import net.ltgt.gradle.incap.IncrementalAnnotationProcessorType;
@@ -103,6 +109,11 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     // TODO remove when http://b.android.com/187527 is released.
     private static final String OPTION_SDK_INT = "butterknife.minSdk";
     private static final String OPTION_DEBUGGABLE = "butterknife.debuggable";
+    private static final String OPTION_INDEX = "butterknife.index";
+    private static final String OPTION_SINGLE_PASS_FIND = "butterknife.singlePassFind";
+    private static final String OPTION_REBINDABLE = "butterknife.rebindable";
+    private static final String OPTION_SHARE_LISTENERS = "butterknife.shareListeners";
+    private static final String OPTION_PARALLELISM = "butterknife.parallelism";
 
     static final Id NO_ID = new Id(NO_RES_ID);
 
@@ -118,6 +129,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     private static final String NULLABLE_ANNOTATION_NAME = "Nullable";
     private static final String STRING_TYPE = "java.lang.String";
     private static final String LIST_TYPE = List.class.getCanonicalName();
+    private static final String LAZY_VIEW_TYPE = "butterknife.LazyView";
 
     private static final List<Class<? extends Annotation>> LISTENERS = Arrays.asList(//
             OnCheckedChanged.class, //
@@ -137,6 +149,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
      * 进行类型操作的工具类
      */
     private Types typeUtils;
+    private Elements elementUtils;
     /**
      * 用于写入源代码到某个文件中
      */
@@ -146,8 +159,40 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
     private int sdk = 1;
     private boolean debuggable = true;
+    /**
+     * 是否只遍历一次View树就查找出所有绑定的View,默认关闭
+     */
+    private boolean singlePassFind;
+    /**
+     * 是否生成rebind方法,用于复用的ViewHolder等场景,默认关闭
+     */
+    private boolean rebindable;
+    /**
+     * 多个View绑定同一种监听器时是否共用一个按id分发的监听器,默认关闭
+     */
+    private boolean shareListeners;
+    /**
+     * 同时生成绑定类代码的线程数,默认为1,在当前线程依次生成.需要通过butterknife.parallelism选项开启
+     */
+    private int parallelism = 1;
+    /**
+     * 编译期生成的绑定类索引,只有设置了butterknife.index选项时才不为空
+     */
+    private @Nullable
+    BindingIndexSet indexSet;
+    private boolean indexWritten;
 
     private final RScanner rScanner = new RScanner();
+    /**
+     * 类中每个字段和方法的修饰符(包含注解)的语法树,每一轮按类缓存.
+     * trees.getTree(element, mirror)每次都要从编译单元的根开始查找声明,一个类有很多绑定时开销很大
+     */
+    private final Map<Element, Map<Element, JCTree.JCModifiers>> memberModifiers = new HashMap<>();
+    /**
+     * 类路径上基类的绑定信息,key为基类的全限定名,在整个编译过程中有效.
+     * 很多页面继承自同样的几个基类,每个基类只需要查找一次
+     */
+    private final Map<String, SupertypeBinding> supertypeBindings = new HashMap<>();
 
     @Override
     public synchronized void init(ProcessingEnvironment env) {
@@ -166,8 +211,45 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         debuggable = !"false".equals(env.getOptions().get(OPTION_DEBUGGABLE));
+        singlePassFind = "true".equals(env.getOptions().get(OPTION_SINGLE_PASS_FIND));
+        rebindable = "true".equals(env.getOptions().get(OPTION_REBINDABLE));
+        shareListeners = "true".equals(env.getOptions().get(OPTION_SHARE_LISTENERS));
+
+        String parallelism = env.getOptions().get(OPTION_PARALLELISM);
+        if (parallelism != null) {
+            try {
+                int value = Integer.parseInt(parallelism);
+                if (value < 1) {
+                    env.getMessager()
+                            .printMessage(Kind.WARNING, "Supplied parallelism option '"
+                                    + parallelism
+                                    + "' must be a positive integer. Bindings will be generated "
+                                    + "serially.");
+                } else {
+                    this.parallelism = value;
+                }
+            } catch (NumberFormatException e) {
+                env.getMessager()
+                        .printMessage(Kind.WARNING, "Unable to parse supplied parallelism option '"
+                                + parallelism
+                                + "'. Bindings will be generated serially.");
+            }
+        }
+
+        String index = env.getOptions().get(OPTION_INDEX);
+        if (index != null) {
+            try {
+                indexSet = new BindingIndexSet(ClassName.bestGuess(index));
+            } catch (IllegalArgumentException e) {
+                env.getMessager()
+                        .printMessage(Kind.WARNING, "Unable to parse supplied index option '"
+                                + index
+                                + "'. No binding index will be generated.");
+            }
+        }
 
         typeUtils = env.getTypeUtils();
+        elementUtils = env.getElementUtils();
         filer = env.getFiler();
         try {
             trees = Trees.instance(processingEnv);
@@ -195,8 +277,15 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     @Override
     public Set<String> getSupportedOptions() {
         ImmutableSet.Builder<String> builder = ImmutableSet.builder();
-        builder.add(OPTION_SDK_INT, OPTION_DEBUGGABLE);
-        if (trees != null) {
+        builder.add(OPTION_SDK_INT, OPTION_DEBUGGABLE, OPTION_INDEX, OPTION_SINGLE_PASS_FIND,
+                OPTION_REBINDABLE, OPTION_SHARE_LISTENERS, OPTION_PARALLELISM);
+        if (indexSet != null) {
+            // The index is written from every binding of the compilation.
+            builder.add(IncrementalAnnotationProcessorType.AGGREGATING.getProcessorOption());
+        } else {
+            // Each binding has its target type as its only originating element and is derived from
+            // that type, its supertypes and the R classes it references. Without trees the ids are
+            // read from the annotation values alone, which is just as isolated.
             builder.add(IncrementalAnnotationProcessorType.ISOLATING.getProcessorOption());
         }
         return builder.build();
@@ -246,25 +335,88 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
      */
     @Override
     public boolean process(Set<? extends TypeElement> elements, RoundEnvironment env) {
+        //javac每一轮都会重新创建语法树和符号,缓存只在一轮中有效
+        memberModifiers.clear();
+        rScanner.clearCache();
+
         //找到所有被注解的元素,并解析注解信息
         Map<TypeElement, BindingSet> bindingMap = findAndParseTargets(env);
 
-        //根据注解得到的信息,生成文件
+        //根据注解得到的信息生成代码,Filer不是线程安全的,只有写文件在当前线程依次进行
+        List<BrewedBinding> brewed = brewAll(bindingMap.values());
+        int index = 0;
         for (Map.Entry<TypeElement, BindingSet> entry : bindingMap.entrySet()) {
             TypeElement typeElement = entry.getKey();
             BindingSet binding = entry.getValue();
 
-            JavaFile javaFile = binding.brewJava(sdk, debuggable);
             try {
-                javaFile.writeTo(filer);
+                brewed.get(index++).writeTo(filer);
             } catch (IOException e) {
                 error(typeElement, "Unable to write binding for type %s: %s", typeElement, e.getMessage());
             }
+
+            if (indexSet != null) {
+                if (indexWritten) {
+                    error(typeElement, "Binding for type %s was generated after the binding index "
+                            + "was written.", typeElement);
+                }
+                indexSet.add(elementUtils.getBinaryName(typeElement).toString(),
+                        binding.getBindingClassName(), typeElement);
+            }
+        }
+
+        //在没有新的绑定类生成的轮次中生成索引,这样索引文件不会在最后一轮才被创建
+        if (indexSet != null && bindingMap.isEmpty()) {
+            writeIndex();
         }
 
         return false;
     }
 
+    /**
+     * 生成所有绑定类的代码并渲染成源码文本.生成代码只用到JavaPoet和解析好的绑定信息,
+     * 不会访问javac的语法树和符号,可以在多个线程中同时进行
+     */
+    private List<BrewedBinding> brewAll(Collection<BindingSet> bindings) {
+        List<BrewedBinding> brewed = new ArrayList<>(bindings.size());
+        if (parallelism == 1 || bindings.size() < 2) {
+            for (BindingSet binding : bindings) {
+                brewed.add(brew(binding));
+            }
+            return brewed;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, bindings.size()));
+        try {
+            List<ForkJoinTask<BrewedBinding>> tasks = new ArrayList<>(bindings.size());
+            for (BindingSet binding : bindings) {
+                tasks.add(pool.submit(() -> brew(binding)));
+            }
+            for (ForkJoinTask<BrewedBinding> task : tasks) {
+                brewed.add(task.join());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return brewed;
+    }
+
+    private BrewedBinding brew(BindingSet binding) {
+        JavaFile javaFile = binding.brewJava(sdk, debuggable, singlePassFind, rebindable,
+                shareListeners);
+        return new BrewedBinding(javaFile, javaFile.toString());
+    }
+
+    private void writeIndex() {
+        if (indexWritten) return;
+        indexWritten = true;
+        try {
+            indexSet.brewJava().writeTo(filer);
+        } catch (IOException e) {
+            error(null, "Unable to write binding index: %s", e.getMessage());
+        }
+    }
+
     /**
      * 找到所有被注解的元素,并解析注解信息
      * 下面分析BindView注解的实现
@@ -277,10 +429,12 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         Map<TypeElement, BindingSet.Builder> builderMap = new LinkedHashMap<>();
         //缓存注解元素所属的类信息,方便查找基类中对应的绑定元素
         Set<TypeElement> erasedTargetNames = new LinkedHashSet<>();
+        //一次遍历找到所有被支持的注解修饰的元素,而不是每个注解都完整遍历一遍
+        RoundElements round = new RoundElements(env, getSupportedAnnotations());
 
         // Process each @BindAnim element.
-        for (Element element : env.getElementsAnnotatedWith(BindAnim.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindAnim.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceAnimation(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -289,8 +443,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindArray element.
-        for (Element element : env.getElementsAnnotatedWith(BindArray.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindArray.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceArray(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -299,8 +453,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindBitmap element.
-        for (Element element : env.getElementsAnnotatedWith(BindBitmap.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindBitmap.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceBitmap(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -309,8 +463,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindBool element.
-        for (Element element : env.getElementsAnnotatedWith(BindBool.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindBool.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceBool(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -319,8 +473,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindColor element.
-        for (Element element : env.getElementsAnnotatedWith(BindColor.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindColor.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceColor(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -329,8 +483,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindDimen element.
-        for (Element element : env.getElementsAnnotatedWith(BindDimen.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindDimen.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceDimen(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -339,8 +493,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindDrawable element.
-        for (Element element : env.getElementsAnnotatedWith(BindDrawable.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindDrawable.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceDrawable(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -349,8 +503,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindFloat element.
-        for (Element element : env.getElementsAnnotatedWith(BindFloat.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindFloat.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceFloat(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -359,8 +513,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindFont element.
-        for (Element element : env.getElementsAnnotatedWith(BindFont.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindFont.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceFont(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -369,8 +523,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindInt element.
-        for (Element element : env.getElementsAnnotatedWith(BindInt.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindInt.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceInt(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -379,8 +533,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindString element.
-        for (Element element : env.getElementsAnnotatedWith(BindString.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(BindString.class)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseResourceString(element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -390,7 +544,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
         // Process each @BindView element.
         //找到所有被BindView注解的元素
-        for (Element element : env.getElementsAnnotatedWith(BindView.class)) {
+        for (Element element : round.annotatedWith(BindView.class)) {
             // we don't SuperficialValidation.validateElement(element)
             // so that an unresolved View type can be generated by later processing rounds
             try {
@@ -401,7 +555,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         // Process each @BindViews element.
-        for (Element element : env.getElementsAnnotatedWith(BindViews.class)) {
+        for (Element element : round.annotatedWith(BindViews.class)) {
             // we don't SuperficialValidation.validateElement(element)
             // so that an unresolved View type can be generated by later processing rounds
             try {
@@ -414,7 +568,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         // Process each annotation that corresponds to a listener.
         //处理事件相关注解
         for (Class<? extends Annotation> listener : LISTENERS) {
-            findAndParseListener(env, listener, builderMap, erasedTargetNames);
+            findAndParseListener(round, listener, builderMap, erasedTargetNames);
         }
 
         //查找基类中的所有绑定信息,其实就是标记下基类中是否有View绑定
@@ -574,6 +728,22 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         Name qualifiedName = enclosingElement.getQualifiedName();
         //获取元素的名称,这里也就是BindView注解的字段名称
         Name simpleName = element.getSimpleName();
+
+        //LazyView<T>类型的字段,验证和绑定的都是泛型参数T
+        boolean lazy = LAZY_VIEW_TYPE.equals(doubleErasure(elementType));
+        if (lazy) {
+            List<? extends TypeMirror> typeArguments =
+                    ((DeclaredType) elementType).getTypeArguments();
+            if (typeArguments.size() != 1) {
+                error(element, "@%s LazyView must have a generic component. (%s.%s)",
+                        BindView.class.getSimpleName(), qualifiedName, simpleName);
+                return;
+            }
+            elementType = typeArguments.get(0);
+            if (elementType.getKind() == TypeKind.TYPEVAR) {
+                elementType = ((TypeVariable) elementType).getUpperBound();
+            }
+        }
         //是否是android.view.View的子类型
         if (!isSubtypeOfType(elementType, VIEW_TYPE) && !isInterface(elementType)) {
             if (elementType.getKind() == TypeKind.ERROR) {
@@ -620,7 +790,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         boolean required = isFieldRequired(element);
 
         //将绑定的View的id唯一标识和FieldViewBinding进行关联
-        builder.addField(resourceId, new FieldViewBinding(name, type, required));
+        builder.addField(resourceId, new FieldViewBinding(name, type, required, lazy));
 
         // Add the type-erased version to the valid binding targets set.
         //将所属类缓存起来,方便查找记录中的绑定信息
@@ -770,8 +940,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindBool.class).value();
         Id resourceId = elementToId(element, BindBool.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        boolean cached = element.getAnnotation(BindBool.class).cached();
         builder.addResource(
-                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.BOOL));
+                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.BOOL, cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -805,6 +976,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         String name = element.getSimpleName().toString();
         int id = element.getAnnotation(BindColor.class).value();
         Id resourceId = elementToId(element, BindColor.class, id);
+        boolean cached = element.getAnnotation(BindColor.class).cached();
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
 
         FieldResourceBinding.Type colorStateList = FieldResourceBinding.Type.COLOR_STATE_LIST;
@@ -812,7 +984,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         builder.addResource(new FieldResourceBinding(
                 resourceId,
                 name,
-                isColorStateList ? colorStateList : color));
+                isColorStateList ? colorStateList : color,
+                cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -847,8 +1020,10 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindDimen.class).value();
         Id resourceId = elementToId(element, BindDimen.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        boolean cached = element.getAnnotation(BindDimen.class).cached();
         builder.addResource(new FieldResourceBinding(resourceId, name,
-                isInt ? FieldResourceBinding.Type.DIMEN_AS_INT : FieldResourceBinding.Type.DIMEN_AS_FLOAT));
+                isInt ? FieldResourceBinding.Type.DIMEN_AS_INT : FieldResourceBinding.Type.DIMEN_AS_FLOAT,
+                cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -879,8 +1054,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindBitmap.class).value();
         Id resourceId = elementToId(element, BindBitmap.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-        builder.addResource(
-                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.BITMAP));
+        boolean cached = element.getAnnotation(BindBitmap.class).cached();
+        builder.addResource(new FieldResourceBinding(resourceId, name,
+                FieldResourceBinding.Type.BITMAP, cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -913,7 +1089,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         Map<Integer, Id> resourceIds = elementToIds(element, BindDrawable.class, new int[]{id, tint});
 
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-        builder.addResource(new FieldDrawableBinding(resourceIds.get(id), name, resourceIds.get(tint)));
+        boolean cached = element.getAnnotation(BindDrawable.class).cached();
+        builder.addResource(new FieldDrawableBinding(resourceIds.get(id), name, resourceIds.get(tint),
+                cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -944,8 +1122,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindFloat.class).value();
         Id resourceId = elementToId(element, BindFloat.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        boolean cached = element.getAnnotation(BindFloat.class).cached();
         builder.addResource(
-                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.FLOAT));
+                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.FLOAT, cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -985,7 +1164,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
 
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
         Id resourceId = elementToId(element, BindFont.class, bindFont.value());
-        builder.addResource(new FieldTypefaceBinding(resourceId, name, style));
+        builder.addResource(new FieldTypefaceBinding(resourceId, name, style, bindFont.cached()));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -1015,8 +1194,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindInt.class).value();
         Id resourceId = elementToId(element, BindInt.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        boolean cached = element.getAnnotation(BindInt.class).cached();
         builder.addResource(
-                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.INT));
+                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.INT, cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -1047,8 +1227,9 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindString.class).value();
         Id resourceId = elementToId(element, BindString.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        boolean cached = element.getAnnotation(BindString.class).cached();
         builder.addResource(
-                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.STRING));
+                new FieldResourceBinding(resourceId, name, FieldResourceBinding.Type.STRING, cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -1068,6 +1249,15 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
             hasError = true;
         }
 
+        //TypedArray用完需要recycle,不能共享
+        boolean cached = element.getAnnotation(BindArray.class).cached();
+        if (cached && type == FieldResourceBinding.Type.TYPED_ARRAY) {
+            error(element, "@%s cached is not supported for '%s' fields. (%s.%s)",
+                    BindArray.class.getSimpleName(), TYPED_ARRAY_TYPE,
+                    enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+
         // Verify common generated code restrictions.
         hasError |= isInaccessibleViaGeneratedCode(BindArray.class, "fields", element);
         hasError |= isBindingInWrongPackage(BindArray.class, element);
@@ -1081,7 +1271,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         int id = element.getAnnotation(BindArray.class).value();
         Id resourceId = elementToId(element, BindArray.class, id);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
-        builder.addResource(new FieldResourceBinding(resourceId, name, requireNonNull(type)));
+        builder.addResource(new FieldResourceBinding(resourceId, name, requireNonNull(type), cached));
 
         erasedTargetNames.add(enclosingElement);
     }
@@ -1138,11 +1328,11 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         return name;
     }
 
-    private void findAndParseListener(RoundEnvironment env,
+    private void findAndParseListener(RoundElements round,
                                       Class<? extends Annotation> annotationClass,
                                       Map<TypeElement, BindingSet.Builder> builderMap, Set<TypeElement> erasedTargetNames) {
-        for (Element element : env.getElementsAnnotatedWith(annotationClass)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        for (Element element : round.annotatedWith(annotationClass)) {
+            if (!round.isValid(element)) continue;
             try {
                 parseListenerAnnotation(annotationClass, element, builderMap, erasedTargetNames);
             } catch (Exception e) {
@@ -1191,6 +1381,18 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
             hasError = true;
         }
 
+        //点击事件的防抖时间窗口,0表示按帧防抖
+        long debounceMillis = 0;
+        if (annotation instanceof OnClick) {
+            debounceMillis = ((OnClick) annotation).debounceMillis();
+            if (debounceMillis < 0) {
+                error(element, "@%s debounceMillis must not be negative. (%s.%s)",
+                        annotationClass.getSimpleName(), enclosingElement.getQualifiedName(),
+                        element.getSimpleName());
+                hasError = true;
+            }
+        }
+
         ListenerClass listener = annotationClass.getAnnotation(ListenerClass.class);
         if (listener == null) {
             throw new IllegalStateException(
@@ -1334,14 +1536,16 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         MethodViewBinding binding =
-                new MethodViewBinding(name, Arrays.asList(parameters), required, hasReturnValue);
+                new MethodViewBinding(name, Arrays.asList(parameters), required, hasReturnValue,
+                        debounceMillis);
         BindingSet.Builder builder = getOrCreateBindingBuilder(builderMap, enclosingElement);
         Map<Integer, Id> resourceIds = elementToIds(element, annotationClass, ids);
 
-        for (Map.Entry<Integer, Id> entry : resourceIds.entrySet()) {
-            if (!builder.addMethod(entry.getValue(), listener, method, binding)) {
+        //只取value()中的id,注解的其它属性(比如debounceMillis)中的常量不是View的id
+        for (int id : ids) {
+            if (!builder.addMethod(resourceIds.get(id), listener, method, binding)) {
                 error(element, "Multiple listener methods with return value specified for ID %d. (%s.%s)",
-                        entry.getKey(), enclosingElement.getQualifiedName(), element.getSimpleName());
+                        id, enclosingElement.getQualifiedName(), element.getSimpleName());
                 return;
             }
         }
@@ -1487,15 +1691,17 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         for (TypeElement typeElement : builderMap.keySet()) {
             // Make sure to process superclass before subclass. This is because if there is a class that
             // requires a View in the constructor, all subclasses need it as well.
-            //创建一个队列,确保所有的基类都在队列的头部
+            //创建一个队列,确保所有的基类都在队列的头部.框架中的类不会有绑定,不需要再往上查找
             Deque<TypeElement> superClasses = new ArrayDeque<>();
             TypeElement superClass = getSuperClass(typeElement);
             while (superClass != null && !processedInThisRound.contains(superClass)
-                    && !classpathBindings.containsKey(superClass)) {
+                    && !isFrameworkType(superClass)) {
                 //将基类添加到队列头部
                 superClasses.addFirst(superClass);
                 superClass = getSuperClass(superClass);
             }
+            //基类链在本轮处理的类处中断时,结果依赖于本轮的源码,不能跨轮次缓存
+            boolean cacheable = superClass == null || isFrameworkType(superClass);
 
             /**
              * 基类中是否有view相关的注解的元素,默认为false,注意这里设计比较巧妙
@@ -1505,14 +1711,22 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
             //循环遍历所有的基类
             while (!superClasses.isEmpty()) {
                 TypeElement superclass = superClasses.removeFirst();
-                ClasspathBindingSet classpathBinding =
-                        findBindingInfoForType(superclass, requireViewInConstructor, supportedAnnotations,
-                                parentHasConstructorWithView);
-
-                if (classpathBinding != null) {
-                    parentHasConstructorWithView |= classpathBinding.constructorNeedsView();
-                    //将有View绑定的基类信息进行缓存
-                    classpathBindings.put(superclass, classpathBinding);
+                String name = superclass.getQualifiedName().toString();
+                SupertypeBinding supertype = cacheable ? supertypeBindings.get(name) : null;
+                if (supertype == null) {
+                    ClasspathBindingSet classpathBinding =
+                            findBindingInfoForType(superclass, requireViewInConstructor,
+                                    supportedAnnotations, parentHasConstructorWithView);
+                    supertype = new SupertypeBinding(classpathBinding, parentHasConstructorWithView);
+                    if (cacheable) {
+                        supertypeBindings.put(name, supertype);
+                    }
+                }
+
+                parentHasConstructorWithView = supertype.needsView;
+                if (supertype.binding != null) {
+                    //将有绑定的基类信息进行缓存
+                    classpathBindings.put(superclass, supertype.binding);
                 }
             }
         }
@@ -1530,6 +1744,8 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     ClasspathBindingSet findBindingInfoForType(
             TypeElement typeElement, Set<Class<? extends Annotation>> requireConstructorWithView,
             Set<Class<? extends Annotation>> otherAnnotations, boolean needsConstructorWithView) {
+        //只读取基类自己的成员和注解,不按名字查找基类生成的绑定类.
+        //基类可以从被处理类的语法树上访问到,按名字查找其他文件会破坏isolating增量处理的约定
         boolean foundSupportedAnnotation = false;
         //遍历基类中声明的所有元素,字段或方法等
         for (Element enclosedElement : typeElement.getEnclosedElements()) {
@@ -1557,6 +1773,15 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
     }
 
+    /**
+     * 框架中的类以及它们的基类都不会有绑定,和运行时ButterKnife查找绑定类时的判断一致
+     */
+    private static boolean isFrameworkType(TypeElement typeElement) {
+        String name = typeElement.getQualifiedName().toString();
+        return name.startsWith("android.") || name.startsWith("java.")
+                || name.startsWith("androidx.");
+    }
+
     /**
      * 获取基类
      *
@@ -1569,7 +1794,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         if (type.getKind() == TypeKind.NONE) {
             return null;
         }
-        return (TypeElement) ((DeclaredType) type).asElement();
+        return (TypeElement) typeUtils.asElement(type);
     }
 
     @Override
@@ -1594,7 +1819,7 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     }
 
     private Id elementToId(Element element, Class<? extends Annotation> annotation, int value) {
-        JCTree tree = (JCTree) trees.getTree(element, getMirror(element, annotation));
+        JCTree tree = getAnnotationTree(element, annotation);
         if (tree != null) { // tree can be null if the references are compiled types and not source
             rScanner.reset();
             tree.accept(rScanner);
@@ -1608,11 +1833,11 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
     private Map<Integer, Id> elementToIds(Element element, Class<? extends Annotation> annotation,
                                           int[] values) {
         Map<Integer, Id> resourceIds = new LinkedHashMap<>();
-        JCTree tree = (JCTree) trees.getTree(element, getMirror(element, annotation));
+        JCTree tree = getAnnotationTree(element, annotation);
         if (tree != null) { // tree can be null if the references are compiled types and not source
             rScanner.reset();
             tree.accept(rScanner);
-            resourceIds = rScanner.resourceIds;
+            resourceIds.putAll(rScanner.resourceIds);
         }
 
         // Every value looked up should have an Id
@@ -1622,6 +1847,43 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         return resourceIds;
     }
 
+    /**
+     * 获取元素上指定注解的语法树,先从按类缓存的声明中查找,找不到时再交给javac查找
+     */
+    private @Nullable
+    JCTree getAnnotationTree(Element element, Class<? extends Annotation> annotation) {
+        Element enclosingElement = element.getEnclosingElement();
+        Map<Element, JCTree.JCModifiers> members = memberModifiers.get(enclosingElement);
+        if (members == null) {
+            members = new HashMap<>();
+            JCTree classTree = (JCTree) trees.getTree(enclosingElement);
+            if (classTree instanceof JCTree.JCClassDecl) {
+                for (JCTree member : ((JCTree.JCClassDecl) classTree).defs) {
+                    if (member instanceof JCTree.JCVariableDecl) {
+                        JCTree.JCVariableDecl field = (JCTree.JCVariableDecl) member;
+                        if (field.sym != null) members.put(field.sym, field.mods);
+                    } else if (member instanceof JCTree.JCMethodDecl) {
+                        JCTree.JCMethodDecl method = (JCTree.JCMethodDecl) member;
+                        if (method.sym != null) members.put(method.sym, method.mods);
+                    }
+                }
+            }
+            memberModifiers.put(enclosingElement, members);
+        }
+
+        JCTree.JCModifiers modifiers = members.get(element);
+        if (modifiers != null) {
+            String annotationName = annotation.getCanonicalName();
+            for (JCTree.JCAnnotation annotationTree : modifiers.annotations) {
+                if (annotationTree.type != null
+                        && annotationName.equals(annotationTree.type.tsym.getQualifiedName().toString())) {
+                    return annotationTree;
+                }
+            }
+        }
+        return (JCTree) trees.getTree(element, getMirror(element, annotation));
+    }
+
     /**
      * 判断某个元素是否有指定名称的注解
      *
@@ -1671,8 +1933,64 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         return null;
     }
 
+    /**
+     * 已经渲染好源码文本的绑定类,等待写入Filer
+     */
+    private static final class BrewedBinding {
+        final JavaFile javaFile;
+        final String source;
+
+        BrewedBinding(JavaFile javaFile, String source) {
+            this.javaFile = javaFile;
+            this.source = source;
+        }
+
+        /**
+         * 和{@link JavaFile#writeTo(Filer)}一样创建源文件,只是写入已经渲染好的文本
+         */
+        void writeTo(Filer filer) throws IOException {
+            String fileName = javaFile.packageName.isEmpty()
+                    ? javaFile.typeSpec.name
+                    : javaFile.packageName + "." + javaFile.typeSpec.name;
+            List<Element> originatingElements = javaFile.typeSpec.originatingElements;
+            JavaFileObject file = filer.createSourceFile(fileName,
+                    originatingElements.toArray(new Element[0]));
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            } catch (IOException e) {
+                file.delete();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 一个基类的查找结果
+     */
+    private static final class SupertypeBinding {
+        /**
+         * 基类自己的绑定,没有绑定时为null
+         */
+        final @Nullable
+        ClasspathBindingSet binding;
+        /**
+         * 基类或它的某个父类的绑定是否需要View
+         */
+        final boolean needsView;
+
+        SupertypeBinding(@Nullable ClasspathBindingSet binding, boolean parentNeedsView) {
+            this.binding = binding;
+            this.needsView = binding != null ? binding.constructorNeedsView() : parentNeedsView;
+        }
+    }
+
     private static class RScanner extends TreeScanner {
         Map<Integer, Id> resourceIds = new LinkedHashMap<>();
+        /**
+         * 已解析过的符号,不是资源ID的符号对应null.同一个R.id.xxx通常会被很多类引用,只解析一次.
+         * 以符号本身为key,同一个R类中值相同的两个字段也能得到各自的名字
+         */
+        private final Map<Symbol, Id> symbolIds = new HashMap<>();
 
         @Override
         public void visitIdent(JCTree.JCIdent jcIdent) {
@@ -1696,31 +2014,40 @@ public final class ButterKnifeProcessor extends AbstractProcessor {
         }
 
         @Nullable
-        private Id parseId(Symbol symbol) {
+        private Id parseId(@Nullable Symbol symbol) {
+            if (!(symbol instanceof Symbol.VarSymbol)) {
+                return null;
+            }
+            if (symbolIds.containsKey(symbol)) {
+                return symbolIds.get(symbol);
+            }
             Id id = null;
             if (symbol.getEnclosingElement() != null
                     && symbol.getEnclosingElement().getEnclosingElement() != null
                     && symbol.getEnclosingElement().getEnclosingElement().enclClass() != null) {
-                try {
-                    int value = (Integer) requireNonNull(((Symbol.VarSymbol) symbol).getConstantValue());
-                    id = new Id(value, symbol);
-                } catch (Exception ignored) {
+                Object value = ((Symbol.VarSymbol) symbol).getConstantValue();
+                if (value instanceof Integer) {
+                    id = new Id((Integer) value, symbol);
                 }
             }
+            symbolIds.put(symbol, id);
             return id;
         }
 
         @Override
         public void visitLiteral(JCTree.JCLiteral jcLiteral) {
-            try {
+            if (jcLiteral.value instanceof Integer) {
                 int value = (Integer) jcLiteral.value;
                 resourceIds.put(value, new Id(value));
-            } catch (Exception ignored) {
             }
         }
 
         void reset() {
             resourceIds.clear();
         }
+
+        void clearCache() {
+            symbolIds.clear();
+        }
     }
 }
@@ -17,12 +17,23 @@ final class FieldAnimationBinding implements ResourceBinding {
     return id;
   }
 
+  @Override public String name() {
+    return name;
+  }
+
   @Override public boolean requiresResources(int sdk) {
     return false;
   }
 
-  @Override public CodeBlock render(int sdk) {
-    return CodeBlock.of("target.$L = $T.loadAnimation(context, $L)", name, ANIMATION_UTILS,
-            id.code);
+  @Override public boolean canUseTypedValue() {
+    return false;
+  }
+
+  @Override public boolean isShareable() {
+    return false;
+  }
+
+  @Override public CodeBlock renderValue(int sdk, boolean typedValue) {
+    return CodeBlock.of("$T.loadAnimation(context, $L)", ANIMATION_UTILS, id.code);
   }
 }
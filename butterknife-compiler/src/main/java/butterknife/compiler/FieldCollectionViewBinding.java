@@ -6,6 +6,7 @@ import com.squareup.javapoet.TypeName;
 import java.util.List;
 
 import static butterknife.compiler.BindingSet.UTILS;
+import static butterknife.compiler.BindingSet.findCall;
 import static butterknife.compiler.BindingSet.requiresCast;
 
 final class FieldCollectionViewBinding {
@@ -24,7 +25,7 @@ final class FieldCollectionViewBinding {
   private final TypeName type;
   private final Kind kind;
   private final boolean required;
-  private final List<Id> ids;
+  final List<Id> ids;
 
   FieldCollectionViewBinding(String name, TypeName type, Kind kind, List<Id> ids,
       boolean required) {
@@ -35,7 +36,7 @@ final class FieldCollectionViewBinding {
     this.required = required;
   }
 
-  CodeBlock render(boolean debuggable) {
+  CodeBlock render(boolean debuggable, boolean singlePass) {
     CodeBlock.Builder builder = CodeBlock.builder()
         .add("target.$L = $T.$L(", name, UTILS, kind.factoryName);
     for (int i = 0; i < ids.size(); i++) {
@@ -50,16 +51,16 @@ final class FieldCollectionViewBinding {
         if (requiresCast) {
           builder.add("($T) ", type);
         }
-        builder.add("source.findViewById($L)", id.code);
+        builder.add("$L)", findCall(singlePass, "findView", id));
       } else if (!requiresCast && !required) {
-        builder.add("source.findViewById($L)", id.code);
+        builder.add("$L)", findCall(singlePass, "findView", id));
       } else {
-        builder.add("$T.find", UTILS);
-        builder.add(required ? "RequiredView" : "OptionalView");
+        String method = required ? "findRequiredView" : "findOptionalView";
         if (requiresCast) {
-          builder.add("AsType");
+          method += "AsType";
         }
-        builder.add("(source, $L, \"field '$L'\"", id.code, name);
+        builder.add(findCall(singlePass, method, id));
+        builder.add(", \"field '$L'\"", name);
         if (requiresCast) {
           TypeName rawType = type;
           if (rawType instanceof ParameterizedTypeName) {
@@ -3,6 +3,7 @@ package butterknife.compiler;
 import com.squareup.javapoet.CodeBlock;
 
 import static butterknife.compiler.BindingSet.CONTEXT_COMPAT;
+import static butterknife.compiler.BindingSet.RESOURCE_CACHE;
 import static butterknife.compiler.BindingSet.UTILS;
 import static butterknife.internal.Constants.NO_RES_ID;
 
@@ -10,29 +11,53 @@ final class FieldDrawableBinding implements ResourceBinding {
   private final Id id;
   private final String name;
   private final Id tintAttributeId;
+  private final boolean cached;
 
-  FieldDrawableBinding(Id id, String name, Id tintAttributeId) {
+  FieldDrawableBinding(Id id, String name, Id tintAttributeId, boolean cached) {
     this.id = id;
     this.name = name;
     this.tintAttributeId = tintAttributeId;
+    this.cached = cached;
   }
 
   @Override public Id id() {
     return id;
   }
 
+  @Override public String name() {
+    return name;
+  }
+
   @Override public boolean requiresResources(int sdk) {
     return false;
   }
 
-  @Override public CodeBlock render(int sdk) {
+  @Override public boolean canUseTypedValue() {
+    return !cached && tintAttributeId.value != NO_RES_ID;
+  }
+
+  @Override public boolean isShareable() {
+    return false;
+  }
+
+  @Override public CodeBlock renderValue(int sdk, boolean typedValue) {
+    if (cached) {
+      return tintAttributeId.value != NO_RES_ID
+          ? CodeBlock.of("$T.getDrawable(context, $L, $L)", RESOURCE_CACHE, id.code,
+              tintAttributeId.code)
+          : CodeBlock.of("$T.getDrawable(context, $L)", RESOURCE_CACHE, id.code);
+    }
     if (tintAttributeId.value != NO_RES_ID) {
-      return CodeBlock.of("target.$L = $T.getTintedDrawable(context, $L, $L)", name, UTILS, id.code,
+      if (typedValue) {
+        return CodeBlock.of("$T.getTintedDrawable(context, $L, $L, value)", UTILS, id.code,
+            tintAttributeId.code);
+      }
+      return CodeBlock.of("$T.getTintedDrawable(context, $L, $L)", UTILS, id.code,
           tintAttributeId.code);
     }
     if (sdk >= 21) {
-      return CodeBlock.of("target.$L = context.getDrawable($L)", name, id.code);
+      return CodeBlock.of("context.getDrawable($L)", id.code);
     }
-    return CodeBlock.of("target.$L = $T.getDrawable(context, $L)", name, CONTEXT_COMPAT, id.code);
+    return CodeBlock.of("$T.getDrawable(context, $L)", CONTEXT_COMPAT, id.code);
   }
 }
@@ -11,26 +11,35 @@ import java.util.List;
 
 final class FieldResourceBinding implements ResourceBinding {
   enum Type {
-    BITMAP(new ResourceMethod(BindingSet.BITMAP_FACTORY, "decodeResource", true, 1)),
-    BOOL("getBoolean"),
-    COLOR(new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColor", false, 1),
+    BITMAP(false, null,
+        new ResourceMethod(BindingSet.BITMAP_FACTORY, "decodeResource", true, 1)),
+    BOOL(true, utilsMethod("getBoolean", true), "getBoolean"),
+    COLOR(true, utilsMethod("getColor", false),
+        new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColor", false, 1),
         new ResourceMethod(null, "getColor", false, 23)),
-    COLOR_STATE_LIST(new ResourceMethod(BindingSet.CONTEXT_COMPAT,
-        "getColorStateList", false, 1),
+    COLOR_STATE_LIST(true, null,
+        new ResourceMethod(BindingSet.CONTEXT_COMPAT, "getColorStateList", false, 1),
         new ResourceMethod(null, "getColorStateList", false, 23)),
-    DIMEN_AS_INT("getDimensionPixelSize"),
-    DIMEN_AS_FLOAT("getDimension"),
-    FLOAT(new ResourceMethod(BindingSet.UTILS, "getFloat", false, 1)),
-    INT("getInteger"),
-    INT_ARRAY("getIntArray"),
-    STRING("getString"),
-    STRING_ARRAY("getStringArray"),
-    TEXT_ARRAY("getTextArray"),
-    TYPED_ARRAY("obtainTypedArray");
+    DIMEN_AS_INT(true, utilsMethod("getDimensionPixelSize", true), "getDimensionPixelSize"),
+    DIMEN_AS_FLOAT(true, utilsMethod("getDimension", true), "getDimension"),
+    FLOAT(true, utilsMethod("getFloat", false), utilsMethod("getFloat", false)),
+    INT(true, utilsMethod("getInteger", true), "getInteger"),
+    INT_ARRAY(false, null, "getIntArray"),
+    STRING(true, null, "getString"),
+    STRING_ARRAY(false, null, "getStringArray"),
+    TEXT_ARRAY(false, null, "getTextArray"),
+    TYPED_ARRAY(false, null, "obtainTypedArray");
 
+    /** True if the value is immutable and can be shared by fields bound to the same ID. */
+    final boolean shareable;
+    /** Resolves the value into a caller-supplied {@code TypedValue}, if possible. */
+    final @Nullable ResourceMethod typedValueMethod;
     private final ImmutableList<ResourceMethod> methods;
 
-    Type(ResourceMethod... methods) {
+    Type(boolean shareable, @Nullable ResourceMethod typedValueMethod,
+        ResourceMethod... methods) {
+      this.shareable = shareable;
+      this.typedValueMethod = typedValueMethod;
       List<ResourceMethod> methodList = new ArrayList<>(methods.length);
       Collections.addAll(methodList, methods);
       Collections.sort(methodList);
@@ -38,10 +47,44 @@ final class FieldResourceBinding implements ResourceBinding {
       this.methods = ImmutableList.copyOf(methodList);
     }
 
-    Type(String methodName) {
+    Type(boolean shareable, @Nullable ResourceMethod typedValueMethod, String methodName) {
+      this.shareable = shareable;
+      this.typedValueMethod = typedValueMethod;
       methods = ImmutableList.of(new ResourceMethod(null, methodName, true, 1));
     }
 
+    /** Loads the value through {@code ResourceCache}, or null if this type cannot be cached. */
+    @Nullable ResourceMethod cachedMethod() {
+      switch (this) {
+        case BITMAP:
+          return cacheMethod("getBitmap", true);
+        case BOOL:
+          return cacheMethod("getBoolean", true);
+        case COLOR:
+          return cacheMethod("getColor", false);
+        case COLOR_STATE_LIST:
+          return cacheMethod("getColorStateList", false);
+        case DIMEN_AS_INT:
+          return cacheMethod("getDimensionPixelSize", true);
+        case DIMEN_AS_FLOAT:
+          return cacheMethod("getDimension", true);
+        case FLOAT:
+          return cacheMethod("getFloat", false);
+        case INT:
+          return cacheMethod("getInteger", true);
+        case INT_ARRAY:
+          return cacheMethod("getIntArray", true);
+        case STRING:
+          return cacheMethod("getString", true);
+        case STRING_ARRAY:
+          return cacheMethod("getStringArray", true);
+        case TEXT_ARRAY:
+          return cacheMethod("getTextArray", true);
+        default:
+          return null;
+      }
+    }
+
     ResourceMethod methodForSdk(int sdk) {
       for (ResourceMethod method : methods) {
         if (method.sdk <= sdk) {
@@ -52,6 +95,14 @@ final class FieldResourceBinding implements ResourceBinding {
     }
   }
 
+  static ResourceMethod utilsMethod(String name, boolean requiresResources) {
+    return new ResourceMethod(BindingSet.UTILS, name, requiresResources, 1);
+  }
+
+  static ResourceMethod cacheMethod(String name, boolean requiresResources) {
+    return new ResourceMethod(BindingSet.RESOURCE_CACHE, name, requiresResources, 1);
+  }
+
   @Immutable
   static final class ResourceMethod implements Comparable<ResourceMethod> {
     @SuppressWarnings("Immutable")
@@ -75,34 +126,63 @@ final class FieldResourceBinding implements ResourceBinding {
   private final Id id;
   private final String name;
   private final Type type;
+  private final boolean cached;
 
   FieldResourceBinding(Id id, String name, Type type) {
+    this(id, name, type, false);
+  }
+
+  FieldResourceBinding(Id id, String name, Type type, boolean cached) {
+    if (cached && type.cachedMethod() == null) {
+      throw new IllegalArgumentException(type + " cannot be cached");
+    }
     this.id = id;
     this.name = name;
     this.type = type;
+    this.cached = cached;
   }
 
   @Override public Id id() {
     return id;
   }
 
+  @Override public String name() {
+    return name;
+  }
+
   @Override public boolean requiresResources(int sdk) {
-    return type.methodForSdk(sdk).requiresResources;
+    return method(sdk).requiresResources;
   }
 
-  @Override public CodeBlock render(int sdk) {
-    ResourceMethod method = type.methodForSdk(sdk);
+  private ResourceMethod method(int sdk) {
+    ResourceMethod cachedMethod = type.cachedMethod();
+    return cached && cachedMethod != null ? cachedMethod : type.methodForSdk(sdk);
+  }
+
+  @Override public boolean canUseTypedValue() {
+    return !cached && type.typedValueMethod != null;
+  }
+
+  @Override public boolean isShareable() {
+    return type.shareable;
+  }
+
+  @Override public CodeBlock renderValue(int sdk, boolean typedValue) {
+    if (typedValue && canUseTypedValue()) {
+      ResourceMethod method = type.typedValueMethod;
+      return CodeBlock.of("$T.$L($L, $L, value)", method.typeName, method.name,
+          method.requiresResources ? "res" : "context", id.code);
+    }
+    ResourceMethod method = method(sdk);
     if (method.typeName == null) {
       if (method.requiresResources) {
-        return CodeBlock.of("target.$L = res.$L($L)", name, method.name, id.code);
+        return CodeBlock.of("res.$L($L)", method.name, id.code);
       }
-      return CodeBlock.of("target.$L = context.$L($L)", name, method.name, id.code);
+      return CodeBlock.of("context.$L($L)", method.name, id.code);
     }
     if (method.requiresResources) {
-      return CodeBlock.of("target.$L = $T.$L(res, $L)", name, method.typeName, method.name,
-          id.code);
+      return CodeBlock.of("$T.$L(res, $L)", method.typeName, method.name, id.code);
     }
-    return CodeBlock.of("target.$L = $T.$L(context, $L)", name, method.typeName, method.name,
-        id.code);
+    return CodeBlock.of("$T.$L(context, $L)", method.typeName, method.name, id.code);
   }
 }
@@ -35,28 +35,47 @@ final class FieldTypefaceBinding implements ResourceBinding {
   private final Id id;
   private final String name;
   private final TypefaceStyles style;
+  private final boolean cached;
 
-  FieldTypefaceBinding(Id id, String name, TypefaceStyles style) {
+  FieldTypefaceBinding(Id id, String name, TypefaceStyles style, boolean cached) {
     this.id = id;
     this.name = name;
     this.style = style;
+    this.cached = cached;
   }
 
   @Override public Id id() {
     return id;
   }
 
+  @Override public String name() {
+    return name;
+  }
+
   @Override public boolean requiresResources(int sdk) {
-    return sdk >= 26;
+    return !cached && sdk >= 26;
+  }
+
+  @Override public boolean canUseTypedValue() {
+    return false;
   }
 
-  @Override public CodeBlock render(int sdk) {
-    CodeBlock typeface = sdk >= 26
-        ? CodeBlock.of("res.getFont($L)", id.code)
-        : CodeBlock.of("$T.getFont(context, $L)", RESOURCES_COMPAT, id.code);
+  @Override public boolean isShareable() {
+    return true;
+  }
+
+  @Override public CodeBlock renderValue(int sdk, boolean typedValue) {
+    CodeBlock typeface;
+    if (cached) {
+      typeface = CodeBlock.of("$T.getFont(context, $L)", BindingSet.RESOURCE_CACHE, id.code);
+    } else if (sdk >= 26) {
+      typeface = CodeBlock.of("res.getFont($L)", id.code);
+    } else {
+      typeface = CodeBlock.of("$T.getFont(context, $L)", RESOURCES_COMPAT, id.code);
+    }
     if (style != TypefaceStyles.NORMAL) {
       typeface = CodeBlock.of("$1T.create($2L, $1T.$3L)", TYPEFACE, typeface, style);
     }
-    return CodeBlock.of("target.$L = $L", name, typeface);
+    return typeface;
   }
 }
@@ -20,11 +20,20 @@ final class FieldViewBinding implements MemberViewBinding {
    * 是否必填,是否被Nullable注解修饰
    */
   private final boolean required;
+  /**
+   * 字段是否是LazyView,此时type为LazyView的泛型参数,View在第一次访问时才查找
+   */
+  private final boolean lazy;
 
   FieldViewBinding(String name, TypeName type, boolean required) {
+    this(name, type, required, false);
+  }
+
+  FieldViewBinding(String name, TypeName type, boolean required, boolean lazy) {
     this.name = name;
     this.type = type;
     this.required = required;
+    this.lazy = lazy;
   }
 
   public String getName() {
@@ -49,4 +58,8 @@ final class FieldViewBinding implements MemberViewBinding {
   public boolean isRequired() {
     return required;
   }
+
+  public boolean isLazy() {
+    return lazy;
+  }
 }
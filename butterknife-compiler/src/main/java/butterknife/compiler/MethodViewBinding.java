@@ -9,13 +9,15 @@ final class MethodViewBinding implements MemberViewBinding {
   private final List<Parameter> parameters;
   private final boolean required;
   private final boolean hasReturnValue;
+  private final long debounceMillis;
 
   MethodViewBinding(String name, List<Parameter> parameters, boolean required,
-      boolean hasReturnValue) {
+      boolean hasReturnValue, long debounceMillis) {
     this.name = name;
     this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
     this.required = required;
     this.hasReturnValue = hasReturnValue;
+    this.debounceMillis = debounceMillis;
   }
 
   public String getName() {
@@ -37,4 +39,9 @@ final class MethodViewBinding implements MemberViewBinding {
   public boolean hasReturnValue() {
     return hasReturnValue;
   }
+
+  /** The click debounce window in milliseconds, or 0 to debounce per frame. */
+  public long getDebounceMillis() {
+    return debounceMillis;
+  }
 }
@@ -5,8 +5,21 @@ import com.squareup.javapoet.CodeBlock;
 interface ResourceBinding {
   Id id();
 
+  /** Name of the bound field. */
+  String name();
+
   /** True if the code for this binding requires a 'res' variable for {@code Resources} access. */
   boolean requiresResources(int sdk);
 
-  CodeBlock render(int sdk);
+  /**
+   * True if this binding can be resolved into a {@code TypedValue} named 'value' which is shared
+   * by all resource bindings of the constructor.
+   */
+  boolean canUseTypedValue();
+
+  /** True if the bound value is immutable so fields bound to the same resource can share it. */
+  boolean isShareable();
+
+  /** The expression resolving the bound value, e.g. {@code res.getString(R.string.title)}. */
+  CodeBlock renderValue(int sdk, boolean typedValue);
 }
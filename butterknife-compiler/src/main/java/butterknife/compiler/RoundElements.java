@@ -0,0 +1,76 @@
+package butterknife.compiler;
+
+import com.google.auto.common.SuperficialValidation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * The elements of one processing round which carry a supported annotation, grouped by annotation
+ * in a single traversal of the round's root elements. Each call to
+ * {@link RoundEnvironment#getElementsAnnotatedWith(Class)} would scan every root element again.
+ */
+final class RoundElements {
+    /**
+     * 注解的全限定名到被该注解修饰的元素,元素按照getElementsAnnotatedWith返回的顺序排列
+     */
+    private final Map<String, List<Element>> annotatedElements = new HashMap<>();
+    /**
+     * 同一个元素可能有多个注解,例如同时有@OnClick和@OnLongClick,只校验一次
+     */
+    private final Map<Element, Boolean> validElements = new HashMap<>();
+
+    RoundElements(RoundEnvironment env, Set<Class<? extends Annotation>> annotations) {
+        for (Class<? extends Annotation> annotation : annotations) {
+            annotatedElements.put(annotation.getCanonicalName(), new ArrayList<>());
+        }
+        for (Element element : env.getRootElements()) {
+            scan(element);
+        }
+    }
+
+    private void scan(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            List<Element> elements = annotatedElements.get(annotation.getQualifiedName().toString());
+            if (elements != null) {
+                elements.add(element);
+            }
+        }
+        //只有类中的字段,方法和内部类会被注解,不需要遍历包和方法参数
+        if (element instanceof TypeElement) {
+            for (Element enclosed : element.getEnclosedElements()) {
+                scan(enclosed);
+            }
+        }
+    }
+
+    /** Returns the elements annotated with {@code annotation}, which must be supported. */
+    List<Element> annotatedWith(Class<? extends Annotation> annotation) {
+        List<Element> elements = annotatedElements.get(annotation.getCanonicalName());
+        if (elements == null) {
+            throw new IllegalArgumentException("Unsupported annotation: " + annotation);
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    /** Returns {@link SuperficialValidation#validateElement} for the element, computed once. */
+    boolean isValid(Element element) {
+        Boolean valid = validElements.get(element);
+        if (valid == null) {
+            valid = SuperficialValidation.validateElement(element);
+            validElements.put(element, valid);
+        }
+        return valid;
+    }
+}
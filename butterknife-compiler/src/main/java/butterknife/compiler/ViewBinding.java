@@ -40,7 +40,8 @@ final class ViewBinding {
 
     public List<MemberViewBinding> getRequiredBindings() {
         List<MemberViewBinding> requiredBindings = new ArrayList<>();
-        if (fieldBinding != null && fieldBinding.isRequired()) {
+        //LazyView字段在第一次访问时才检查View是否存在
+        if (fieldBinding != null && fieldBinding.isRequired() && !fieldBinding.isLazy()) {
             requiredBindings.add(fieldBinding);
         }
         for (Map<ListenerMethod, Set<MethodViewBinding>> methodBinding : methodBindings.values()) {
@@ -0,0 +1,56 @@
+package com.example.butterknife.functional;
+
+import android.view.View;
+import butterknife.BindView;
+import butterknife.ButterKnife;
+import butterknife.OnClick;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class BindingPlanTest {
+  static class Target {
+    int clicks;
+    @BindView(1) View actual;
+
+    @OnClick(1) void click() {
+      clicks++;
+    }
+  }
+
+  @Test public void planIsReusedForEveryTarget() {
+    View firstTree = ViewTree.create(1);
+    Target first = new Target();
+    ButterKnife.bind(first, firstTree);
+
+    View secondTree = ViewTree.create(1);
+    Target second = new Target();
+    ButterKnife.bind(second, secondTree);
+
+    assertThat(first.actual).isSameAs(firstTree.findViewById(1));
+    assertThat(second.actual).isSameAs(secondTree.findViewById(1));
+
+    secondTree.findViewById(1).performClick();
+    assertThat(first.clicks).isEqualTo(0);
+    assertThat(second.clicks).isEqualTo(1);
+  }
+
+  static class Invalid {
+    @BindView(1) private View actual;
+  }
+
+  @Test public void invalidPlanIsNotCached() {
+    View tree = ViewTree.create(1);
+    for (int i = 0; i < 2; i++) {
+      try {
+        ButterKnife.bind(new Invalid(), tree);
+        fail();
+      } catch (IllegalStateException e) {
+        assertThat(e).hasMessageThat()
+            .isEqualTo("com.example.butterknife.functional.BindingPlanTest$Invalid.actual "
+                + "must not be private or static");
+      }
+    }
+  }
+}
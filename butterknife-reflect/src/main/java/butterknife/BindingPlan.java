@@ -0,0 +1,39 @@
+package butterknife;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一个类的绑定计划:解析注解得到的字段和方法绑定步骤,每次绑定只需要按顺序执行这些步骤
+ */
+final class BindingPlan implements UnbinderFactory {
+    static final BindingPlan EMPTY = new BindingPlan(new ArrayList<>(), 0);
+
+    private final UnbinderFactory[] steps;
+    /**
+     * 每次绑定调用findViewById的次数,在解析注解时统计,绑定时不需要计数
+     */
+    final int findViewCount;
+
+    BindingPlan(@NonNull List<UnbinderFactory> steps, int findViewCount) {
+        this.steps = steps.toArray(new UnbinderFactory[0]);
+        this.findViewCount = findViewCount;
+    }
+
+    @NonNull
+    @Override
+    public Unbinder bind(@NonNull Object target, @NonNull View source) {
+        if (steps.length == 0) {
+            return Unbinder.EMPTY;
+        }
+        List<Unbinder> unbinders = new ArrayList<>(steps.length);
+        for (UnbinderFactory step : steps) {
+            unbinders.add(step.bind(target, source));
+        }
+        return new CompositeUnbinder(unbinders);
+    }
+}
@@ -22,16 +22,22 @@ import android.widget.AdapterView;
 import android.widget.CompoundButton;
 import android.widget.TextView;
 
+import androidx.annotation.AnyThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import androidx.core.content.res.ResourcesCompat;
 import androidx.viewpager.widget.ViewPager;
 
 import butterknife.internal.Constants;
+import butterknife.internal.DebouncingOnClickListener;
+import butterknife.internal.EmptyTextWatcher;
+import butterknife.internal.ListenerClass;
 import butterknife.internal.Utils;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
@@ -40,9 +46,13 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static java.lang.reflect.Modifier.PRIVATE;
 import static java.lang.reflect.Modifier.PUBLIC;
@@ -60,6 +70,14 @@ public final class ButterKnife {
     private static final String TAG = "ButterKnife";
     private static boolean debug = false;
 
+    /**
+     * 目标类到绑定计划的缓存,注解只在每个类第一次绑定时解析
+     */
+    @VisibleForTesting
+    static final Map<Class<?>, BindingPlan> PLANS = new ConcurrentHashMap<>();
+    @Nullable
+    private static volatile BindingListener bindingListener;
+
     /**
      * Control whether debug logging is enabled.
      */
@@ -67,6 +85,45 @@ public final class ButterKnife {
         ButterKnife.debug = debug;
     }
 
+    /**
+     * Install a listener which receives the timings of every binding, or remove it with
+     * {@code null}. The reported lookup time is the time spent finding, or on first use creating,
+     * the binding plan of the target class.
+     */
+    @AnyThread
+    public static void setBindingListener(@Nullable BindingListener listener) {
+        bindingListener = listener;
+    }
+
+    /**
+     * Accepts a build-time {@link BindingIndex} for API compatibility with the code generating
+     * implementation. Reflection-based binding does not use generated classes so this is a no-op.
+     */
+    @AnyThread
+    public static void addIndex(@NonNull BindingIndex index) {
+    }
+
+    /**
+     * Parse the annotations of the specified classes and cache their binding plans ahead of their
+     * first {@code bind} call. This may be called from any thread.
+     *
+     * @param targetClasses Classes which will later be bound.
+     */
+    @AnyThread
+    public static void preload(@NonNull Class<?>... targetClasses) {
+        for (Class<?> targetClass : targetClasses) {
+            findBindingPlan(targetClass);
+        }
+    }
+
+    /**
+     * Accepts an executor for API compatibility with the code generating implementation.
+     * Reflection-based binding has no generated classes to warm up so this is a no-op.
+     */
+    @AnyThread
+    public static void warmUp(@NonNull Executor executor) {
+    }
+
     /**
      * BindView annotated fields and methods in the specified {@link Activity}. The current content
      * view is used as the view root.
@@ -144,20 +201,67 @@ public final class ButterKnife {
     @NonNull
     @UiThread
     public static Unbinder bind(@NonNull Object target, @NonNull View source) {
-        //存储所有已经绑定好值的字段信息,方便解绑置空
-        List<Unbinder> unbinders = new ArrayList<>();
+        BindingListener listener = bindingListener;
+        if (listener != null) {
+            return bindMeasured(target, source, listener);
+        }
+        return findBindingPlan(target.getClass()).bind(target, source);
+    }
 
-        //要进行绑定的字段或方法所属的类
+    /**
+     * 测量查找绑定计划和执行绑定的耗时,报告findViewById的次数,解绑时同样测量耗时
+     */
+    private static Unbinder bindMeasured(Object target, View source, BindingListener listener) {
         Class<?> targetClass = target.getClass();
+        long lookupStart = System.nanoTime();
+        boolean cacheHit = PLANS.containsKey(targetClass);
+        BindingPlan plan = findBindingPlan(targetClass);
+        long bindStart = System.nanoTime();
+        Unbinder unbinder = plan.bind(target, source);
+        long bindEnd = System.nanoTime();
+        listener.onBind(targetClass, cacheHit, bindStart - lookupStart, bindEnd - bindStart,
+                plan.findViewCount);
+
+        if (unbinder == Unbinder.EMPTY) {
+            return unbinder;
+        }
+        return () -> {
+            long start = System.nanoTime();
+            unbinder.unbind();
+            listener.onUnbind(targetClass, System.nanoTime() - start);
+        };
+    }
 
+    /**
+     * 获取类对应的绑定计划,第一次使用时解析注解并缓存,之后的绑定只需要查找View和设置字段
+     */
+    @NonNull
+    @AnyThread
+    private static BindingPlan findBindingPlan(Class<?> targetClass) {
+        BindingPlan plan = PLANS.get(targetClass);
+        if (plan != null) {
+            return plan;
+        }
+        plan = createBindingPlan(targetClass);
+        // Another thread may have raced this lookup. Both create equivalent plans.
+        PLANS.put(targetClass, plan);
+        return plan;
+    }
+
+    private static BindingPlan createBindingPlan(Class<?> targetClass) {
         //绑定类不能是private的
         if ((targetClass.getModifiers() & PRIVATE) != 0) {
             throw new IllegalArgumentException(targetClass.getName() + " must not be private.");
         }
 
-        while (true) {
+        //存储所有字段和方法的绑定步骤
+        List<UnbinderFactory> steps = new ArrayList<>();
+        //执行这些步骤时调用findViewById的次数
+        int findViewCount = 0;
+
+        for (Class<?> cls = targetClass; ; cls = cls.getSuperclass()) {
             //类全路径名称
-            String clsName = targetClass.getName();
+            String clsName = cls.getName();
 
             //排除掉已android java androidx  开头的包的类
             if (clsName.startsWith("android.") || clsName.startsWith("java.")
@@ -166,114 +270,148 @@ public final class ButterKnife {
             }
 
             //找到类中声明的所有字段
-            for (Field field : targetClass.getDeclaredFields()) {
-                int unbinderStartingSize = unbinders.size();
-                Unbinder unbinder;
+            for (Field field : cls.getDeclaredFields()) {
+                int stepStartingSize = steps.size();
+                UnbinderFactory step;
 
                 //解析@BindView注解的字段
-                unbinder = parseBindView(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindView(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindViews(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindViews(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindAnim(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindAnim(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindArray(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindArray(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindBitmap(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindBitmap(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindBool(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindBool(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindColor(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindColor(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindDimen(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindDimen(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindDrawable(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindDrawable(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindFloat(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindFloat(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindFont(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindFont(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindInt(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindInt(field);
+                if (step != null) steps.add(step);
 
-                unbinder = parseBindString(target, field, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseBindString(field);
+                if (step != null) steps.add(step);
 
-                if (unbinders.size() - unbinderStartingSize > 1) {
+                if (steps.size() - stepStartingSize > 1) {
                     throw new IllegalStateException(
-                            "More than one bind annotation on " + targetClass.getName() + "." + field.getName());
+                            "More than one bind annotation on " + cls.getName() + "." + field.getName());
                 }
+                findViewCount += countFindViews(field);
             }
 
             //找到类中声明的所有方法
-            for (Method method : targetClass.getDeclaredMethods()) {
-                Unbinder unbinder;
+            for (Method method : cls.getDeclaredMethods()) {
+                UnbinderFactory step;
 
-                unbinder = parseOnCheckedChanged(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnCheckedChanged(method);
+                if (step != null) steps.add(step);
 
                 //解析@OnClick注解的方法
-                unbinder = parseOnClick(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnClick(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnEditorAction(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnEditorAction(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnFocusChange(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnFocusChange(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnItemClick(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnItemClick(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnItemLongClick(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnItemLongClick(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnLongClick(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnLongClick(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnPageChange(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnPageChange(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnTextChanged(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
+                step = parseOnTextChanged(method);
+                if (step != null) steps.add(step);
 
-                unbinder = parseOnTouch(target, method, source);
-                if (unbinder != null) unbinders.add(unbinder);
-            }
+                step = parseOnTouch(method);
+                if (step != null) steps.add(step);
 
-            targetClass = targetClass.getSuperclass();
+                findViewCount += countFindViews(method);
+            }
         }
 
-        if (unbinders.isEmpty()) {
+        if (steps.isEmpty()) {
             if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
-            return Unbinder.EMPTY;
+            return BindingPlan.EMPTY;
         }
 
-        if (debug) Log.d(TAG, "HIT: Reflectively found " + unbinders.size() + " bindings.");
-        return new CompositeUnbinder(unbinders);
+        if (debug) Log.d(TAG, "HIT: Reflectively found " + steps.size() + " bindings.");
+        return new BindingPlan(steps, findViewCount);
+    }
+
+    /**
+     * 字段绑定时调用findViewById的次数,LazyView字段在第一次get()时才查找
+     */
+    private static int countFindViews(Field field) {
+        BindView bindView = field.getAnnotation(BindView.class);
+        if (bindView != null) {
+            return field.getType() == LazyView.class ? 0 : 1;
+        }
+        BindViews bindViews = field.getAnnotation(BindViews.class);
+        return bindViews != null ? bindViews.value().length : 0;
+    }
+
+    /**
+     * 方法上的监听器注解绑定时调用findViewById的次数,和{@link #findViews}一致,只绑定到source本身时不需要查找
+     */
+    private static int countFindViews(Method method) {
+        int count = 0;
+        for (Annotation annotation : method.getDeclaredAnnotations()) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (!annotationType.isAnnotationPresent(ListenerClass.class)) {
+                continue;
+            }
+            int[] ids;
+            try {
+                ids = (int[]) annotationType.getMethod("value").invoke(annotation);
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new AssertionError(e);
+            }
+            if (ids.length != 1 || ids[0] != View.NO_ID) {
+                count += ids.length;
+            }
+        }
+        return count;
     }
 
     /**
      * 解析@BindView注解的字段
      *
-     * @param target 目标类
      * @param field  字段
-     * @param source 根view,用于根据id查找view
-     * @return
+     * @return 绑定步骤,字段没有被注解时返回null
      */
     private static @Nullable
-    Unbinder parseBindView(Object target, Field field, View source) {
+    UnbinderFactory parseBindView(Field field) {
         //确认字段被@BindView注解
         BindView bindView = field.getAnnotation(BindView.class);
         if (bindView == null) {
@@ -285,8 +423,10 @@ public final class ButterKnife {
 
         //view的资源id
         int id = bindView.value();
+        //LazyView<T>类型的字段,验证和查找的都是泛型参数T
+        boolean lazy = field.getType() == LazyView.class;
         //字段声明的类型
-        Class<?> viewClass = field.getType();
+        Class<?> viewClass = lazy ? getLazyViewClass(field) : field.getType();
 
         //判断字段类型是否是一个View的子类型
         if (!View.class.isAssignableFrom(viewClass) && !viewClass.isInterface()) {
@@ -301,16 +441,46 @@ public final class ButterKnife {
         //可读的字符串,用于标识这是一个字段
         String who = "field '" + field.getName() + "'";
 
-        //查找View
-        Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
-        trySet(field, target, view);
+        if (lazy) {
+            return (target, source) -> {
+                trySet(field, target, LazyView.optional(source, id, who, viewClass));
+                return new FieldUnbinder(target, field);
+            };
+        }
 
-        //创建一个Unbinder的子类,存储对象和字段,方便解绑置空
-        return new FieldUnbinder(target, field);
+        return (target, source) -> {
+            //查找View
+            Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
+            trySet(field, target, view);
+
+            //创建一个Unbinder的子类,存储对象和字段,方便解绑置空
+            return new FieldUnbinder(target, field);
+        };
+    }
+
+    private static Class<?> getLazyViewClass(Field field) {
+        Type type = field.getGenericType();
+        if (type instanceof ParameterizedType) {
+            Type viewType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (viewType instanceof TypeVariable<?>) {
+                viewType = ((TypeVariable<?>) viewType).getBounds()[0];
+            }
+            if (viewType instanceof ParameterizedType) {
+                viewType = ((ParameterizedType) viewType).getRawType();
+            }
+            if (viewType instanceof Class<?>) {
+                return (Class<?>) viewType;
+            }
+        }
+        throw new IllegalStateException("@BindView LazyView must have a generic component. ("
+                + field.getDeclaringClass().getName()
+                + '.'
+                + field.getName()
+                + ')');
     }
 
     private static @Nullable
-    Unbinder parseBindViews(Object target, Field field, View source) {
+    UnbinderFactory parseBindViews(Field field) {
         BindViews bindViews = field.getAnnotation(BindViews.class);
         if (bindViews == null) {
             return null;
@@ -360,29 +530,31 @@ public final class ButterKnife {
                     + ')');
         }
 
-        List<Object> views = new ArrayList<>(ids.length);
         String who = "field '" + field.getName() + "'";
-        for (int id : ids) {
-            Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
-            if (view != null) {
-                views.add(view);
+        return (target, source) -> {
+            List<Object> views = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                Object view = Utils.findOptionalViewAsType(source, id, who, viewClass);
+                if (view != null) {
+                    views.add(view);
+                }
             }
-        }
 
-        Object value;
-        if (isArray) {
-            Object[] viewArray = (Object[]) Array.newInstance(viewClass, views.size());
-            value = views.toArray(viewArray);
-        } else {
-            value = views;
-        }
+            Object value;
+            if (isArray) {
+                Object[] viewArray = (Object[]) Array.newInstance(viewClass, views.size());
+                value = views.toArray(viewArray);
+            } else {
+                value = views;
+            }
 
-        trySet(field, target, value);
-        return new FieldUnbinder(target, field);
+            trySet(field, target, value);
+            return new FieldUnbinder(target, field);
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindAnim(Object target, Field field, View source) {
+    UnbinderFactory parseBindAnim(Field field) {
         BindAnim bindAnim = field.getAnnotation(BindAnim.class);
         if (bindAnim == null) {
             return null;
@@ -390,26 +562,25 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindAnim.value();
-        Context context = source.getContext();
 
-        Object value;
         Class<?> fieldType = field.getType();
-        if (fieldType == Animation.class) {
-            value = AnimationUtils.loadAnimation(context, id);
-        } else {
+        if (fieldType != Animation.class) {
             throw new IllegalStateException("@BindAnim field type must be 'Animation'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        return (target, source) -> {
+            Context context = source.getContext();
+            trySet(field, target, AnimationUtils.loadAnimation(context, id));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindArray(Object target, Field field, View source) {
+    UnbinderFactory parseBindArray(Field field) {
         BindArray bindArray = field.getAnnotation(BindArray.class);
         if (bindArray == null) {
             return null;
@@ -417,20 +588,35 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindArray.value();
-        Resources resources = source.getContext().getResources();
+        boolean cached = bindArray.cached();
 
-        Object value;
         Class<?> fieldType = field.getType();
+        ResourceLoader loader;
         if (fieldType == TypedArray.class) {
-            value = resources.obtainTypedArray(id);
+            if (cached) {
+                throw new IllegalStateException(
+                        "@BindArray cached is not supported for 'android.content.res.TypedArray' "
+                                + "fields. ("
+                                + field.getDeclaringClass().getName()
+                                + '.'
+                                + field.getName()
+                                + ')');
+            }
+            loader = resources -> resources.obtainTypedArray(id);
         } else if (fieldType.isArray()) {
             Class<?> componentType = fieldType.getComponentType();
             if (componentType == String.class) {
-                value = resources.getStringArray(id);
+                loader = cached
+                        ? resources -> ResourceCache.getStringArray(resources, id)
+                        : resources -> resources.getStringArray(id);
             } else if (componentType == int.class) {
-                value = resources.getIntArray(id);
+                loader = cached
+                        ? resources -> ResourceCache.getIntArray(resources, id)
+                        : resources -> resources.getIntArray(id);
             } else if (componentType == CharSequence.class) {
-                value = resources.getTextArray(id);
+                loader = cached
+                        ? resources -> ResourceCache.getTextArray(resources, id)
+                        : resources -> resources.getTextArray(id);
             } else {
                 throw new IllegalStateException("@BindArray field type must be one of: "
                         + "String[], int[], CharSequence[], android.content.res.TypedArray. ("
@@ -447,13 +633,16 @@ public final class ButterKnife {
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        return (target, source) -> {
+            Resources resources = source.getContext().getResources();
+            trySet(field, target, loader.load(resources));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindBitmap(Object target, Field field, View source) {
+    UnbinderFactory parseBindBitmap(Field field) {
         BindBitmap bindBitmap = field.getAnnotation(BindBitmap.class);
         if (bindBitmap == null) {
             return null;
@@ -461,26 +650,29 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindBitmap.value();
-        Resources resources = source.getContext().getResources();
 
-        Object value;
         Class<?> fieldType = field.getType();
-        if (fieldType == Bitmap.class) {
-            value = BitmapFactory.decodeResource(resources, id);
-        } else {
+        if (fieldType != Bitmap.class) {
             throw new IllegalStateException("@BindBitmap field type must be 'Bitmap'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindBitmap.cached();
+
+        return (target, source) -> {
+            Resources resources = source.getContext().getResources();
+            trySet(field, target, cached
+                    ? ResourceCache.getBitmap(resources, id)
+                    : BitmapFactory.decodeResource(resources, id));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindBool(Object target, Field field, View source) {
+    UnbinderFactory parseBindBool(Field field) {
         BindBool bindBool = field.getAnnotation(BindBool.class);
         if (bindBool == null) {
             return null;
@@ -488,26 +680,29 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindBool.value();
-        Resources resources = source.getContext().getResources();
 
-        Object value;
         Class<?> fieldType = field.getType();
-        if (fieldType == boolean.class) {
-            value = resources.getBoolean(id);
-        } else {
+        if (fieldType != boolean.class) {
             throw new IllegalStateException("@BindBool field type must be 'boolean'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindBool.cached();
+
+        return (target, source) -> {
+            Resources resources = source.getContext().getResources();
+            trySet(field, target, cached
+                    ? ResourceCache.getBoolean(resources, id)
+                    : resources.getBoolean(id));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindColor(Object target, Field field, View source) {
+    UnbinderFactory parseBindColor(Field field) {
         BindColor bindColor = field.getAnnotation(BindColor.class);
         if (bindColor == null) {
             return null;
@@ -515,14 +710,13 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindColor.value();
-        Context context = source.getContext();
 
-        Object value;
         Class<?> fieldType = field.getType();
+        boolean isInt;
         if (fieldType == int.class) {
-            value = ContextCompat.getColor(context, id);
+            isInt = true;
         } else if (fieldType == ColorStateList.class) {
-            value = ContextCompat.getColorStateList(context, id);
+            isInt = false;
         } else {
             throw new IllegalStateException("@BindColor field type must be 'int' or 'ColorStateList'. ("
                     + field.getDeclaringClass().getName()
@@ -530,13 +724,27 @@ public final class ButterKnife {
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
-
-        return Unbinder.EMPTY;
+        boolean cached = bindColor.cached();
+
+        return (target, source) -> {
+            Context context = source.getContext();
+            Object value;
+            if (isInt) {
+                value = cached
+                        ? ResourceCache.getColor(context, id)
+                        : ContextCompat.getColor(context, id);
+            } else if (cached) {
+                value = ResourceCache.getColorStateList(context, id);
+            } else {
+                value = ContextCompat.getColorStateList(context, id);
+            }
+            trySet(field, target, value);
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindDimen(Object target, Field field, View source) {
+    UnbinderFactory parseBindDimen(Field field) {
         BindDimen bindDimen = field.getAnnotation(BindDimen.class);
         if (bindDimen == null) {
             return null;
@@ -544,14 +752,13 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindDimen.value();
-        Resources resources = source.getContext().getResources();
 
         Class<?> fieldType = field.getType();
-        Object value;
+        boolean isInt;
         if (fieldType == int.class) {
-            value = resources.getDimensionPixelSize(id);
+            isInt = true;
         } else if (fieldType == float.class) {
-            value = resources.getDimension(id);
+            isInt = false;
         } else {
             throw new IllegalStateException("@BindDimen field type must be 'int' or 'float'. ("
                     + field.getDeclaringClass().getName()
@@ -559,13 +766,28 @@ public final class ButterKnife {
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindDimen.cached();
+
+        return (target, source) -> {
+            Resources resources = source.getContext().getResources();
+            Object value;
+            if (cached) {
+                value = isInt
+                        ? ResourceCache.getDimensionPixelSize(resources, id)
+                        : ResourceCache.getDimension(resources, id);
+            } else {
+                value = isInt
+                        ? resources.getDimensionPixelSize(id)
+                        : resources.getDimension(id);
+            }
+            trySet(field, target, value);
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindDrawable(Object target, Field field, View source) {
+    UnbinderFactory parseBindDrawable(Field field) {
         BindDrawable bindDrawable = field.getAnnotation(BindDrawable.class);
         if (bindDrawable == null) {
             return null;
@@ -574,28 +796,35 @@ public final class ButterKnife {
 
         int id = bindDrawable.value();
         int tint = bindDrawable.tint();
-        Context context = source.getContext();
 
         Class<?> fieldType = field.getType();
-        Object value;
-        if (fieldType == Drawable.class) {
-            value = tint != Constants.NO_RES_ID
-                    ? Utils.getTintedDrawable(context, id, tint)
-                    : ContextCompat.getDrawable(context, id);
-        } else {
+        if (fieldType != Drawable.class) {
             throw new IllegalStateException("@BindDrawable field type must be 'Drawable'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindDrawable.cached();
+
+        return (target, source) -> {
+            Context context = source.getContext();
+            Object value;
+            if (cached) {
+                value = ResourceCache.getDrawable(context, id, tint);
+            } else if (tint != Constants.NO_RES_ID) {
+                value = Utils.getTintedDrawable(context, id, tint);
+            } else {
+                value = ContextCompat.getDrawable(context, id);
+            }
+            trySet(field, target, value);
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindFloat(Object target, Field field, View source) {
+    UnbinderFactory parseBindFloat(Field field) {
         BindFloat bindInt = field.getAnnotation(BindFloat.class);
         if (bindInt == null) {
             return null;
@@ -603,26 +832,29 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindInt.value();
-        Context context = source.getContext();
 
         Class<?> fieldType = field.getType();
-        Object value;
-        if (fieldType == float.class) {
-            value = Utils.getFloat(context, id);
-        } else {
+        if (fieldType != float.class) {
             throw new IllegalStateException("@BindFloat field type must be 'float'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindInt.cached();
+
+        return (target, source) -> {
+            Context context = source.getContext();
+            trySet(field, target, cached
+                    ? ResourceCache.getFloat(context, id)
+                    : Utils.getFloat(context, id));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindFont(Object target, Field field, View source) {
+    UnbinderFactory parseBindFont(Field field) {
         BindFont bindFont = field.getAnnotation(BindFont.class);
         if (bindFont == null) {
             return null;
@@ -631,43 +863,46 @@ public final class ButterKnife {
 
         int id = bindFont.value();
         int style = bindFont.style();
-        Context context = source.getContext();
+        boolean cached = bindFont.cached();
 
         Class<?> fieldType = field.getType();
-        Object value;
-        if (fieldType == Typeface.class) {
-            Typeface font = ResourcesCompat.getFont(context, id);
-            switch (style) {
-                case Typeface.NORMAL:
-                    value = font;
-                    break;
-                case Typeface.BOLD:
-                case Typeface.ITALIC:
-                case Typeface.BOLD_ITALIC:
-                    value = Typeface.create(font, style);
-                    break;
-                default:
-                    throw new IllegalStateException(
-                            "@BindFont style must be NORMAL, BOLD, ITALIC, or BOLD_ITALIC. ("
-                                    + field.getDeclaringClass().getName()
-                                    + '.'
-                                    + field.getName()
-                                    + ')');
-            }
-        } else {
+        if (fieldType != Typeface.class) {
             throw new IllegalStateException("@BindFont field type must be 'Typeface'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
+        switch (style) {
+            case Typeface.NORMAL:
+            case Typeface.BOLD:
+            case Typeface.ITALIC:
+            case Typeface.BOLD_ITALIC:
+                break;
+            default:
+                throw new IllegalStateException(
+                        "@BindFont style must be NORMAL, BOLD, ITALIC, or BOLD_ITALIC. ("
+                                + field.getDeclaringClass().getName()
+                                + '.'
+                                + field.getName()
+                                + ')');
+        }
 
-        return Unbinder.EMPTY;
+        return (target, source) -> {
+            Context context = source.getContext();
+            Typeface font = cached
+                    ? ResourceCache.getFont(context, id)
+                    : ResourcesCompat.getFont(context, id);
+            Object value = style == Typeface.NORMAL
+                    ? font
+                    : Typeface.create(font, style);
+            trySet(field, target, value);
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindInt(Object target, Field field, View source) {
+    UnbinderFactory parseBindInt(Field field) {
         BindInt bindInt = field.getAnnotation(BindInt.class);
         if (bindInt == null) {
             return null;
@@ -675,26 +910,29 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindInt.value();
-        Resources resources = source.getContext().getResources();
 
         Class<?> fieldType = field.getType();
-        Object value;
-        if (fieldType == int.class) {
-            value = resources.getInteger(id);
-        } else {
+        if (fieldType != int.class) {
             throw new IllegalStateException("@BindInt field type must be 'int'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindInt.cached();
+
+        return (target, source) -> {
+            Resources resources = source.getContext().getResources();
+            trySet(field, target, cached
+                    ? ResourceCache.getInteger(resources, id)
+                    : resources.getInteger(id));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseBindString(Object target, Field field, View source) {
+    UnbinderFactory parseBindString(Field field) {
         BindString bindString = field.getAnnotation(BindString.class);
         if (bindString == null) {
             return null;
@@ -702,58 +940,61 @@ public final class ButterKnife {
         validateMember(field);
 
         int id = bindString.value();
-        Context context = source.getContext();
 
         Class<?> fieldType = field.getType();
-        Object value;
-        if (fieldType == String.class) {
-            value = context.getString(id);
-        } else {
+        if (fieldType != String.class) {
             throw new IllegalStateException("@BindString field type must be 'String'. ("
                     + field.getDeclaringClass().getName()
                     + '.'
                     + field.getName()
                     + ')');
         }
-        trySet(field, target, value);
 
-        return Unbinder.EMPTY;
+        boolean cached = bindString.cached();
+
+        return (target, source) -> {
+            Context context = source.getContext();
+            trySet(field, target, cached
+                    ? ResourceCache.getString(context.getResources(), id)
+                    : context.getString(id));
+            return Unbinder.EMPTY;
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnCheckedChanged(final Object target, final Method method,
-                                   View source) {
+    UnbinderFactory parseOnCheckedChanged(final Method method) {
         OnCheckedChanged onCheckedChanged = method.getAnnotation(OnCheckedChanged.class);
         if (onCheckedChanged == null) {
             return null;
         }
         validateMember(method);
         validateReturnType(method, void.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_CHECKED_CHANGED_TYPES);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_CHECKED_CHANGED_TYPES);
+        int[] ids = onCheckedChanged.value();
+        boolean required = isRequired(method);
 
-        List<CompoundButton> views =
-                findViews(source, onCheckedChanged.value(), isRequired(method), method.getName(),
-                        CompoundButton.class);
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<CompoundButton> views =
+                    findViews(source, ids, required, method.getName(), CompoundButton.class);
 
-        ViewCollections.set(views, ON_CHECKED_CHANGE,
-                (buttonView, isChecked) -> tryInvoke(method, target,
-                        argumentTransformer.transform(buttonView, isChecked)));
+            ViewCollections.set(views, ON_CHECKED_CHANGE,
+                    (buttonView, isChecked) ->
+                            invoker.invoke(arguments, target, buttonView, isChecked));
 
-        return new ListenerUnbinder<>(views, ON_CHECKED_CHANGE);
+            return new ListenerUnbinder<>(views, ON_CHECKED_CHANGE);
+        };
     }
 
     /**
      * 解析@OnClick注解的方法
      *
-     * @param target
      * @param method
-     * @param source
-     * @return
+     * @return 绑定步骤,方法没有被注解时返回null
      */
     private static @Nullable
-    Unbinder parseOnClick(final Object target, final Method method,
-                          View source) {
+    UnbinderFactory parseOnClick(final Method method) {
         //方法是否被@OnClick注解
         OnClick onClick = method.getAnnotation(OnClick.class);
         if (onClick == null) {
@@ -766,283 +1007,349 @@ public final class ButterKnife {
         validateReturnType(method, void.class);
 
         //创建一个参数转换类型对象
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_CLICK_TYPES);
-
-        //查找OnClick注解配置的所有的View
-        List<View> views =
-                findViews(source, onClick.value(), isRequired(method), method.getName(), View.class);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_CLICK_TYPES);
+        int[] ids = onClick.value();
+        boolean required = isRequired(method);
+        long debounceMillis = onClick.debounceMillis();
+        if (debounceMillis < 0) {
+            throw new IllegalStateException("@OnClick debounceMillis must not be negative. ("
+                    + method.getDeclaringClass().getName()
+                    + '.'
+                    + method.getName()
+                    + ')');
+        }
 
-        //给View绑定事件,当View触发点击事件的时候回调用tryInvoke方法
-        ViewCollections.set(views, ON_CLICK,
-                v -> tryInvoke(method, target, argumentTransformer.transform(v)));
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            //查找OnClick注解配置的所有的View
+            List<View> views = findViews(source, ids, required, method.getName(), View.class);
+
+            //给View绑定事件,当View触发点击事件的时候调用目标方法
+            if (debounceMillis > 0) {
+                //每个View单独计算防抖的时间窗口
+                for (View view : views) {
+                    view.setOnClickListener(new DebouncingOnClickListener(debounceMillis) {
+                        @Override
+                        public void doClick(View v) {
+                            invoker.invoke(arguments, target, v);
+                        }
+                    });
+                }
+            } else {
+                ViewCollections.set(views, ON_CLICK,
+                        v -> invoker.invoke(arguments, target, v));
+            }
 
-        return new ListenerUnbinder<>(views, ON_CLICK);
+            return new ListenerUnbinder<>(views, ON_CLICK);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnEditorAction(final Object target, final Method method,
-                                 View source) {
+    UnbinderFactory parseOnEditorAction(final Method method) {
         OnEditorAction onEditorAction = method.getAnnotation(OnEditorAction.class);
         if (onEditorAction == null) {
             return null;
         }
         validateMember(method);
         final boolean propagateReturn = validateReturnType(method, boolean.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_EDITOR_ACTION_TYPES);
-
-        List<TextView> views =
-                findViews(source, onEditorAction.value(), isRequired(method), method.getName(),
-                        TextView.class);
-
-        ViewCollections.set(views, ON_EDITOR_ACTION, (v, actionId, event) -> {
-            Object value = tryInvoke(method, target, argumentTransformer.transform(v, actionId, event));
-            //noinspection SimplifiableConditionalExpression
-            return propagateReturn
-                    ? (boolean) value
-                    : true;
-        });
-
-        return new ListenerUnbinder<>(views, ON_EDITOR_ACTION);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_EDITOR_ACTION_TYPES);
+        int[] ids = onEditorAction.value();
+        boolean required = isRequired(method);
+
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<TextView> views =
+                    findViews(source, ids, required, method.getName(), TextView.class);
+
+            ViewCollections.set(views, ON_EDITOR_ACTION, (v, actionId, event) -> {
+                Object value = invoker.invoke(arguments, target, v, actionId, event);
+                //noinspection SimplifiableConditionalExpression
+                return propagateReturn
+                        ? (boolean) value
+                        : true;
+            });
+
+            return new ListenerUnbinder<>(views, ON_EDITOR_ACTION);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnFocusChange(final Object target, final Method method,
-                                View source) {
+    UnbinderFactory parseOnFocusChange(final Method method) {
         OnFocusChange onFocusChange = method.getAnnotation(OnFocusChange.class);
         if (onFocusChange == null) {
             return null;
         }
         validateMember(method);
         validateReturnType(method, void.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_FOCUS_CHANGE_TYPES);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_FOCUS_CHANGE_TYPES);
+        int[] ids = onFocusChange.value();
+        boolean required = isRequired(method);
 
-        List<View> views =
-                findViews(source, onFocusChange.value(), isRequired(method), method.getName(), View.class);
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<View> views = findViews(source, ids, required, method.getName(), View.class);
 
-        ViewCollections.set(views, ON_FOCUS_CHANGE,
-                (v, hasFocus) -> tryInvoke(method, target, argumentTransformer.transform(v, hasFocus)));
+            ViewCollections.set(views, ON_FOCUS_CHANGE,
+                    (v, hasFocus) -> invoker.invoke(arguments, target, v, hasFocus));
 
-        return new ListenerUnbinder<>(views, ON_FOCUS_CHANGE);
+            return new ListenerUnbinder<>(views, ON_FOCUS_CHANGE);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnItemClick(final Object target, final Method method,
-                              View source) {
+    UnbinderFactory parseOnItemClick(final Method method) {
         OnItemClick onItemClick = method.getAnnotation(OnItemClick.class);
         if (onItemClick == null) {
             return null;
         }
         validateMember(method);
         validateReturnType(method, void.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_ITEM_CLICK_TYPES);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_ITEM_CLICK_TYPES);
+        int[] ids = onItemClick.value();
+        boolean required = isRequired(method);
 
-        List<AdapterView<?>> views =
-                findViews(source, onItemClick.value(), isRequired(method), method.getName(),
-                        AdapterView.class);
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<AdapterView<?>> views =
+                    findViews(source, ids, required, method.getName(), AdapterView.class);
 
-        ViewCollections.set(views, ON_ITEM_CLICK,
-                (parent, view, position, id) -> tryInvoke(method, target,
-                        argumentTransformer.transform(parent, view, position, id)));
+            ViewCollections.set(views, ON_ITEM_CLICK,
+                    (parent, view, position, id) -> invoker.invoke(arguments, target,
+                            parent, view, position, id));
 
-        return new ListenerUnbinder<>(views, ON_ITEM_CLICK);
+            return new ListenerUnbinder<>(views, ON_ITEM_CLICK);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnItemLongClick(final Object target, final Method method,
-                                  View source) {
+    UnbinderFactory parseOnItemLongClick(final Method method) {
         OnItemLongClick onItemLongClick = method.getAnnotation(OnItemLongClick.class);
         if (onItemLongClick == null) {
             return null;
         }
         validateMember(method);
         final boolean propagateReturn = validateReturnType(method, boolean.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_ITEM_LONG_CLICK_TYPES);
-
-        List<AdapterView<?>> views =
-                findViews(source, onItemLongClick.value(), isRequired(method), method.getName(),
-                        AdapterView.class);
-
-        ViewCollections.set(views, ON_ITEM_LONG_CLICK, (parent, view, position, id) -> {
-            Object value =
-                    tryInvoke(method, target, argumentTransformer.transform(parent, view, position, id));
-            //noinspection SimplifiableConditionalExpression
-            return propagateReturn
-                    ? (boolean) value
-                    : true;
-        });
-
-        return new ListenerUnbinder<>(views, ON_ITEM_LONG_CLICK);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_ITEM_LONG_CLICK_TYPES);
+        int[] ids = onItemLongClick.value();
+        boolean required = isRequired(method);
+
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<AdapterView<?>> views =
+                    findViews(source, ids, required, method.getName(), AdapterView.class);
+
+            ViewCollections.set(views, ON_ITEM_LONG_CLICK, (parent, view, position, id) -> {
+                Object value = invoker.invoke(arguments, target, parent, view, position, id);
+                //noinspection SimplifiableConditionalExpression
+                return propagateReturn
+                        ? (boolean) value
+                        : true;
+            });
+
+            return new ListenerUnbinder<>(views, ON_ITEM_LONG_CLICK);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnLongClick(final Object target, final Method method,
-                              View source) {
+    UnbinderFactory parseOnLongClick(final Method method) {
         OnLongClick onLongClick = method.getAnnotation(OnLongClick.class);
         if (onLongClick == null) {
             return null;
         }
         validateMember(method);
         final boolean propagateReturn = validateReturnType(method, boolean.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_LONG_CLICK_TYPES);
-
-        List<View> views =
-                findViews(source, onLongClick.value(), isRequired(method), method.getName(), View.class);
-
-        ViewCollections.set(views, ON_LONG_CLICK, v -> {
-            Object returnValue = tryInvoke(method, target, argumentTransformer.transform(v));
-            //noinspection SimplifiableConditionalExpression
-            return propagateReturn
-                    ? (boolean) returnValue
-                    : true;
-        });
-
-        return new ListenerUnbinder<>(views, ON_LONG_CLICK);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_LONG_CLICK_TYPES);
+        int[] ids = onLongClick.value();
+        boolean required = isRequired(method);
+
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<View> views = findViews(source, ids, required, method.getName(), View.class);
+
+            ViewCollections.set(views, ON_LONG_CLICK, v -> {
+                Object returnValue = invoker.invoke(arguments, target, v);
+                //noinspection SimplifiableConditionalExpression
+                return propagateReturn
+                        ? (boolean) returnValue
+                        : true;
+            });
+
+            return new ListenerUnbinder<>(views, ON_LONG_CLICK);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnPageChange(final Object target, final Method method,
-                               View source) {
+    UnbinderFactory parseOnPageChange(final Method method) {
         OnPageChange onPageChange = method.getAnnotation(OnPageChange.class);
         if (onPageChange == null) {
             return null;
         }
         validateMember(method);
         validateReturnType(method, void.class);
+        int[] ids = onPageChange.value();
+        boolean required = isRequired(method);
 
-        List<ViewPager> views =
-                findViews(source, onPageChange.value(), isRequired(method), method.getName(),
-                        ViewPager.class);
-
-        ViewPager.OnPageChangeListener listener;
+        MethodInvoker invoker;
         switch (onPageChange.callback()) {
-            case PAGE_SCROLLED: {
-                ArgumentTransformer argumentTransformer =
-                        createArgumentTransformer(method, ON_PAGE_SCROLLED_TYPES);
-                listener = new ViewPager.SimpleOnPageChangeListener() {
-                    @Override
-                    public void onPageScrolled(int position, float positionOffset,
-                                               int positionOffsetPixels) {
-                        tryInvoke(method, target,
-                                argumentTransformer.transform(position, positionOffset, positionOffsetPixels));
-                    }
-                };
+            case PAGE_SCROLLED:
+                invoker = createInvoker(method, ON_PAGE_SCROLLED_TYPES);
                 break;
-            }
-            case PAGE_SELECTED: {
-                ArgumentTransformer argumentTransformer =
-                        createArgumentTransformer(method, ON_PAGE_SELECTED_TYPES);
-                listener = new ViewPager.SimpleOnPageChangeListener() {
-                    @Override
-                    public void onPageSelected(int position) {
-                        tryInvoke(method, target, argumentTransformer.transform(position));
-                    }
-                };
+            case PAGE_SELECTED:
+                invoker = createInvoker(method, ON_PAGE_SELECTED_TYPES);
                 break;
-            }
-            case PAGE_SCROLL_STATE_CHANGED: {
-                ArgumentTransformer argumentTransformer =
-                        createArgumentTransformer(method, ON_PAGE_SCROLL_STATE_CHANGED_TYPES);
-                listener = new ViewPager.SimpleOnPageChangeListener() {
-                    @Override
-                    public void onPageScrollStateChanged(int state) {
-                        tryInvoke(method, target, argumentTransformer.transform(state));
-                    }
-                };
+            case PAGE_SCROLL_STATE_CHANGED:
+                invoker =
+                        createInvoker(method, ON_PAGE_SCROLL_STATE_CHANGED_TYPES);
                 break;
-            }
             default:
                 throw new AssertionError();
         }
+        OnPageChange.Callback callback = onPageChange.callback();
+
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<ViewPager> views =
+                    findViews(source, ids, required, method.getName(), ViewPager.class);
+
+            ViewPager.OnPageChangeListener listener;
+            switch (callback) {
+                case PAGE_SCROLLED:
+                    listener = new ViewPager.SimpleOnPageChangeListener() {
+                        @Override
+                        public void onPageScrolled(int position, float positionOffset,
+                                                   int positionOffsetPixels) {
+                            invoker.invoke(arguments, target,
+                                    position, positionOffset, positionOffsetPixels);
+                        }
+                    };
+                    break;
+                case PAGE_SELECTED:
+                    listener = new ViewPager.SimpleOnPageChangeListener() {
+                        @Override
+                        public void onPageSelected(int position) {
+                            invoker.invoke(arguments, target, position);
+                        }
+                    };
+                    break;
+                case PAGE_SCROLL_STATE_CHANGED:
+                    listener = new ViewPager.SimpleOnPageChangeListener() {
+                        @Override
+                        public void onPageScrollStateChanged(int state) {
+                            invoker.invoke(arguments, target, state);
+                        }
+                    };
+                    break;
+                default:
+                    throw new AssertionError();
+            }
 
-        ViewCollections.set(views, ADD_ON_PAGE_CHANGE, listener);
-        return new ListenerUnbinder<>(views, REMOVE_ON_PAGE_CHANGE, listener);
+            ViewCollections.set(views, ADD_ON_PAGE_CHANGE, listener);
+            return new ListenerUnbinder<>(views, REMOVE_ON_PAGE_CHANGE, listener);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnTextChanged(Object target, Method method, View source) {
+    UnbinderFactory parseOnTextChanged(final Method method) {
         OnTextChanged onTextChanged = method.getAnnotation(OnTextChanged.class);
         if (onTextChanged == null) {
             return null;
         }
         validateMember(method);
         validateReturnType(method, void.class);
+        int[] ids = onTextChanged.value();
+        boolean required = isRequired(method);
 
-        List<TextView> views =
-                findViews(source, onTextChanged.value(), isRequired(method), method.getName(), View.class);
-
-        TextWatcher textWatcher;
+        MethodInvoker invoker;
         switch (onTextChanged.callback()) {
-            case TEXT_CHANGED: {
-                ArgumentTransformer argumentTransformer =
-                        createArgumentTransformer(method, ON_TEXT_CHANGED_TYPES);
-                textWatcher = new EmptyTextWatcher() {
-                    @Override
-                    public void onTextChanged(CharSequence s, int start, int before, int count) {
-                        tryInvoke(method, target, argumentTransformer.transform(s, start, before, count));
-                    }
-                };
+            case TEXT_CHANGED:
+                invoker = createInvoker(method, ON_TEXT_CHANGED_TYPES);
                 break;
-            }
-            case BEFORE_TEXT_CHANGED: {
-                ArgumentTransformer argumentTransformer =
-                        createArgumentTransformer(method, BEFORE_TEXT_CHANGED_TYPES);
-                textWatcher = new EmptyTextWatcher() {
-                    @Override
-                    public void beforeTextChanged(CharSequence s, int start, int count, int after) {
-                        tryInvoke(method, target, argumentTransformer.transform(s, start, count, after));
-                    }
-                };
+            case BEFORE_TEXT_CHANGED:
+                invoker = createInvoker(method, BEFORE_TEXT_CHANGED_TYPES);
                 break;
-            }
-            case AFTER_TEXT_CHANGED: {
-                ArgumentTransformer argumentTransformer =
-                        createArgumentTransformer(method, AFTER_TEXT_CHANGED_TYPES);
-                textWatcher = new EmptyTextWatcher() {
-                    @Override
-                    public void afterTextChanged(Editable s) {
-                        tryInvoke(method, target, argumentTransformer.transform(s));
-                    }
-                };
+            case AFTER_TEXT_CHANGED:
+                invoker = createInvoker(method, AFTER_TEXT_CHANGED_TYPES);
                 break;
-            }
             default:
                 throw new AssertionError();
         }
+        OnTextChanged.Callback callback = onTextChanged.callback();
+
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<TextView> views =
+                    findViews(source, ids, required, method.getName(), View.class);
+
+            TextWatcher textWatcher;
+            switch (callback) {
+                case TEXT_CHANGED:
+                    textWatcher = new EmptyTextWatcher() {
+                        @Override
+                        public void onTextChanged(CharSequence s, int start, int before,
+                                                  int count) {
+                            invoker.invoke(arguments, target, s, start, before, count);
+                        }
+                    };
+                    break;
+                case BEFORE_TEXT_CHANGED:
+                    textWatcher = new EmptyTextWatcher() {
+                        @Override
+                        public void beforeTextChanged(CharSequence s, int start, int count,
+                                                      int after) {
+                            invoker.invoke(arguments, target, s, start, count, after);
+                        }
+                    };
+                    break;
+                case AFTER_TEXT_CHANGED:
+                    textWatcher = new EmptyTextWatcher() {
+                        @Override
+                        public void afterTextChanged(Editable s) {
+                            invoker.invoke(arguments, target, s);
+                        }
+                    };
+                    break;
+                default:
+                    throw new AssertionError();
+            }
 
-        ViewCollections.set(views, ADD_TEXT_WATCHER, textWatcher);
-        return new ListenerUnbinder<>(views, REMOVE_TEXT_WATCHER, textWatcher);
+            ViewCollections.set(views, ADD_TEXT_WATCHER, textWatcher);
+            return new ListenerUnbinder<>(views, REMOVE_TEXT_WATCHER, textWatcher);
+        };
     }
 
     private static @Nullable
-    Unbinder parseOnTouch(final Object target, final Method method,
-                          View source) {
+    UnbinderFactory parseOnTouch(final Method method) {
         OnTouch onTouch = method.getAnnotation(OnTouch.class);
         if (onTouch == null) {
             return null;
         }
         validateMember(method);
         final boolean propagateReturn = validateReturnType(method, boolean.class);
-        final ArgumentTransformer argumentTransformer =
-                createArgumentTransformer(method, ON_TOUCH_TYPES);
-
-        List<View> views =
-                findViews(source, onTouch.value(), isRequired(method), method.getName(), View.class);
-
-        ViewCollections.set(views, ON_TOUCH, (v, event) -> {
-            Object returnValue = tryInvoke(method, target, argumentTransformer.transform(v, event));
-            //noinspection SimplifiableConditionalExpression
-            return propagateReturn
-                    ? (boolean) returnValue
-                    : true;
-        });
-
-        return new ListenerUnbinder<>(views, ON_TOUCH);
+        final MethodInvoker invoker =
+                createInvoker(method, ON_TOUCH_TYPES);
+        int[] ids = onTouch.value();
+        boolean required = isRequired(method);
+
+        return (target, source) -> {
+            Object[] arguments = invoker.newArguments();
+            List<View> views = findViews(source, ids, required, method.getName(), View.class);
+
+            ViewCollections.set(views, ON_TOUCH, (v, event) -> {
+                Object returnValue = invoker.invoke(arguments, target, v, event);
+                //noinspection SimplifiableConditionalExpression
+                return propagateReturn
+                        ? (boolean) returnValue
+                        : true;
+            });
+
+            return new ListenerUnbinder<>(views, ON_TOUCH);
+        };
     }
 
     /**
@@ -1129,14 +1436,13 @@ public final class ButterKnife {
     }
 
     /**
-     * 创建一个参数转换类型对象
+     * 创建方法的调用器,回调参数到方法参数的映射在这里一次性计算好
      *
      * @param method                 方法
      * @param callbackParameterTypes 正常回调方法参数类型
      * @return
      */
-    private static ArgumentTransformer createArgumentTransformer(Method method,
-                                                                 Class<?>[] callbackParameterTypes) {
+    private static MethodInvoker createInvoker(Method method, Class<?>[] callbackParameterTypes) {
         //获取方法的所有参数
         Class<?>[] targetParameterTypes = method.getParameterTypes();
 
@@ -1144,7 +1450,7 @@ public final class ButterKnife {
         int targetParameterLength = targetParameterTypes.length;
         if (targetParameterLength == 0) {
             // Special case the common case of no arguments.
-            return ArgumentTransformer.EMPTY;
+            return new MethodInvoker(method, new int[0]);
         }
 
         //正常回调方法参数个数
@@ -1162,7 +1468,11 @@ public final class ButterKnife {
         //确定参数个数和类型是否相同
         if (Arrays.equals(targetParameterTypes, callbackParameterTypes)) {
             // Special case the common case of exact argument match.
-            return ArgumentTransformer.IDENTITY;
+            int[] identity = new int[targetParameterLength];
+            for (int i = 0; i < targetParameterLength; i++) {
+                identity[i] = i;
+            }
+            return new MethodInvoker(method, identity);
         }
 
         /*
@@ -1224,28 +1534,7 @@ public final class ButterKnife {
             throw new IllegalStateException(builder.toString());
         }
 
-        return new ArgumentTransformer() {
-            @Override
-            public Object[] transform(Object... arguments) {
-                Object[] newArguments = new Object[indexMap.length];
-                for (int i = 0; i < indexMap.length; i++) {
-                    newArguments[i] = arguments[indexMap[i]];
-                }
-                return newArguments;
-            }
-
-            @Override
-            public String toString() {
-                StringBuilder builder = new StringBuilder("ArgumentTransformer[");
-                for (int i = 0; i < indexMap.length; i++) {
-                    if (i > 0) {
-                        builder.append(", ");
-                    }
-                    builder.append(i).append(" => ").append(indexMap[i]);
-                }
-                return builder.append(']').toString();
-            }
-        };
+        return new MethodInvoker(method, indexMap);
     }
 
     /**
@@ -1263,27 +1552,6 @@ public final class ButterKnife {
         }
     }
 
-    /**
-     * 调用方法
-     * @param method
-     * @param target
-     * @param arguments
-     * @return
-     */
-    private static Object tryInvoke(Method method, Object target, Object... arguments) {
-        Throwable cause;
-        try {
-            return method.invoke(target, arguments);
-        } catch (IllegalAccessException e) {
-            cause = e;
-        } catch (InvocationTargetException e) {
-            cause = e;
-        }
-        throw new RuntimeException(
-                "Unable to invoke " + method + " on " + target + " with arguments "
-                        + Arrays.toString(arguments), cause);
-    }
-
     private static final Setter<CompoundButton, CompoundButton.OnCheckedChangeListener>
             ON_CHECKED_CHANGE = (view, value, index) -> view.setOnCheckedChangeListener(value);
     private static final Setter<View, View.OnClickListener> ON_CLICK =
@@ -1328,32 +1596,10 @@ public final class ButterKnife {
     private static final Class<?>[] AFTER_TEXT_CHANGED_TYPES = {Editable.class};
     private static final Class<?>[] ON_TOUCH_TYPES = {View.class, MotionEvent.class};
 
-    private interface ArgumentTransformer {
-        ArgumentTransformer EMPTY = new ArgumentTransformer() {
-            private final Object[] empty = new Object[0];
-
-            @Override
-            public Object[] transform(Object... arguments) {
-                return empty;
-            }
-
-            @Override
-            public String toString() {
-                return "ArgumentTransformer[empty]";
-            }
-        };
-        ArgumentTransformer IDENTITY = new ArgumentTransformer() {
-            @Override
-            public Object[] transform(Object... arguments) {
-                return arguments;
-            }
-
-            @Override
-            public String toString() {
-                return "ArgumentTransformer[identity]";
-            }
-        };
-
-        Object[] transform(Object... arguments);
+    /**
+     * 绑定时从Resources中加载字段的值
+     */
+    private interface ResourceLoader {
+        Object load(Resources resources);
     }
 }
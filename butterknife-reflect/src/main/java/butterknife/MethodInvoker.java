@@ -0,0 +1,196 @@
+package butterknife;
+
+import androidx.annotation.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * 监听方法的调用器,在绑定计划创建时就确定回调参数到方法参数的映射,
+ * 回调时直接按映射把参数写入每个绑定自己的参数数组,不会为每次回调分配数组
+ * <p>
+ * 每种监听回调的参数形式都有对应的重载,基本类型的参数只有在方法用到时才会装箱
+ * <p>
+ * {@code MethodHandle}和{@code LambdaMetafactory}在Android上需要API 26,所以这里仍然使用反射调用
+ */
+final class MethodInvoker {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Method method;
+    /**
+     * 方法的第i个参数使用回调的第indexMap[i]个参数
+     */
+    private final int[] indexMap;
+
+    MethodInvoker(Method method, int[] indexMap) {
+        this.method = method;
+        this.indexMap = indexMap;
+    }
+
+    /**
+     * Creates the argument array for one binding. It is reused by every callback of that binding
+     * which is safe since callbacks are delivered on the main thread.
+     */
+    Object[] newArguments() {
+        return indexMap.length == 0 ? NO_ARGUMENTS : new Object[indexMap.length];
+    }
+
+    /**
+     * {@code onClick(View)}, {@code onLongClick(View)}, {@code afterTextChanged(Editable)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, Object a0) {
+        for (int i = 0; i < indexMap.length; i++) {
+            arguments[i] = a0;
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onTouch(View, MotionEvent)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, Object a0, Object a1) {
+        for (int i = 0; i < indexMap.length; i++) {
+            arguments[i] = indexMap[i] == 0 ? a0 : a1;
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onCheckedChanged(CompoundButton, boolean)}, {@code onFocusChange(View, boolean)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, Object a0, boolean a1) {
+        for (int i = 0; i < indexMap.length; i++) {
+            arguments[i] = indexMap[i] == 0 ? a0 : Boolean.valueOf(a1);
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onEditorAction(TextView, int, KeyEvent)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, Object a0, int a1, Object a2) {
+        for (int i = 0; i < indexMap.length; i++) {
+            switch (indexMap[i]) {
+                case 0:
+                    arguments[i] = a0;
+                    break;
+                case 1:
+                    arguments[i] = a1;
+                    break;
+                case 2:
+                    arguments[i] = a2;
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onItemClick(AdapterView, View, int, long)},
+     * {@code onItemLongClick(AdapterView, View, int, long)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, Object a0, Object a1, int a2, long a3) {
+        for (int i = 0; i < indexMap.length; i++) {
+            switch (indexMap[i]) {
+                case 0:
+                    arguments[i] = a0;
+                    break;
+                case 1:
+                    arguments[i] = a1;
+                    break;
+                case 2:
+                    arguments[i] = a2;
+                    break;
+                case 3:
+                    arguments[i] = a3;
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onTextChanged(CharSequence, int, int, int)},
+     * {@code beforeTextChanged(CharSequence, int, int, int)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, Object a0, int a1, int a2, int a3) {
+        for (int i = 0; i < indexMap.length; i++) {
+            switch (indexMap[i]) {
+                case 0:
+                    arguments[i] = a0;
+                    break;
+                case 1:
+                    arguments[i] = a1;
+                    break;
+                case 2:
+                    arguments[i] = a2;
+                    break;
+                case 3:
+                    arguments[i] = a3;
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onPageSelected(int)}, {@code onPageScrollStateChanged(int)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, int a0) {
+        for (int i = 0; i < indexMap.length; i++) {
+            arguments[i] = a0;
+        }
+        return invoke(arguments, target);
+    }
+
+    /**
+     * {@code onPageScrolled(int, float, int)}.
+     */
+    @Nullable
+    Object invoke(Object[] arguments, Object target, int a0, float a1, int a2) {
+        for (int i = 0; i < indexMap.length; i++) {
+            switch (indexMap[i]) {
+                case 0:
+                    arguments[i] = a0;
+                    break;
+                case 1:
+                    arguments[i] = a1;
+                    break;
+                case 2:
+                    arguments[i] = a2;
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+        }
+        return invoke(arguments, target);
+    }
+
+    @Nullable
+    private Object invoke(Object[] arguments, Object target) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(
+                    "Unable to invoke " + method + " on " + target + " with arguments "
+                            + Arrays.toString(arguments), e);
+        } finally {
+            // 不持有回调参数,例如分发完成后会被回收的MotionEvent
+            Arrays.fill(arguments, null);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package butterknife;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public final class MethodInvokerTest {
+  private static final int FRAMES = 10_000;
+  /** Size of a boxed {@link Integer} or {@link Float} on a 64-bit VM with compressed oops. */
+  private static final long BOX_BYTES = 16;
+
+  public static final class Target {
+    int position = -1;
+    float offset = -1;
+    int offsetPixels = -1;
+    int state = -1;
+    Object view;
+
+    public void onPageScrolled(int position) {
+      this.position = position;
+    }
+
+    public void onPageScrolled(int position, float offset, int offsetPixels) {
+      this.position = position;
+      this.offset = offset;
+      this.offsetPixels = offsetPixels;
+    }
+
+    public void onPageScrollStateChanged(int state) {
+      this.state = state;
+    }
+
+    public void onClick(Object view) {
+      this.view = view;
+    }
+  }
+
+  @Test public void argumentsAreMappedAndCleared() throws NoSuchMethodException {
+    Method method = Target.class.getMethod("onClick", Object.class);
+    MethodInvoker invoker = new MethodInvoker(method, new int[] { 1 });
+    Object[] arguments = invoker.newArguments();
+    Target target = new Target();
+    Object view = new Object();
+
+    invoker.invoke(arguments, target, new Object(), view);
+    assertThat(target.view).isSameAs(view);
+    assertThat(arguments).asList().containsExactly((Object) null);
+  }
+
+  @Test public void noArgumentsAreShared() throws NoSuchMethodException {
+    Method method = Target.class.getMethod("toString");
+    MethodInvoker invoker = new MethodInvoker(method, new int[0]);
+    assertThat(invoker.newArguments()).isSameAs(invoker.newArguments());
+  }
+
+  @Test public void unconsumedScrollArgumentsAreNotBoxed() throws NoSuchMethodException {
+    Method method = Target.class.getMethod("onPageScrolled", int.class);
+    MethodInvoker invoker = new MethodInvoker(method, new int[] { 0 });
+    Object[] arguments = invoker.newArguments();
+    Target target = new Target();
+
+    // Only the position is passed on and it stays within the Integer cache.
+    assertThat(allocatedBytesPerFrame(() -> {
+      for (int i = 1; i <= FRAMES; i++) {
+        invoker.invoke(arguments, target, i % 100, i / (float) FRAMES, i);
+      }
+    })).isEqualTo(0);
+    assertThat(target.position).isEqualTo(FRAMES % 100);
+  }
+
+  @Test public void smallIntCallbackUsesBoxCache() throws NoSuchMethodException {
+    Method method = Target.class.getMethod("onPageScrollStateChanged", int.class);
+    MethodInvoker invoker = new MethodInvoker(method, new int[] { 0 });
+    Object[] arguments = invoker.newArguments();
+    Target target = new Target();
+
+    assertThat(allocatedBytesPerFrame(() -> {
+      for (int i = 0; i < FRAMES; i++) {
+        invoker.invoke(arguments, target, i % 3);
+      }
+    })).isEqualTo(0);
+    assertThat(target.state).isEqualTo((FRAMES - 1) % 3);
+  }
+
+  @Test public void fullScrollFrameBoxesOffsetAndPixels() throws NoSuchMethodException {
+    Method method =
+        Target.class.getMethod("onPageScrolled", int.class, float.class, int.class);
+    MethodInvoker invoker = new MethodInvoker(method, new int[] { 0, 1, 2 });
+    Object[] arguments = invoker.newArguments();
+    Target target = new Target();
+
+    // Every frame boxes the offset and, once past the Integer cache, the offset in pixels.
+    long perFrame = allocatedBytesPerFrame(() -> {
+      for (int i = 1; i <= FRAMES; i++) {
+        invoker.invoke(arguments, target, i % 100, i / (float) FRAMES, i);
+      }
+    });
+    assertThat(perFrame).isAtLeast(BOX_BYTES);
+    assertThat(perFrame).isAtMost(2 * BOX_BYTES);
+    assertThat(target.position).isEqualTo(FRAMES % 100);
+    assertThat(target.offset).isEqualTo(1f);
+    assertThat(target.offsetPixels).isEqualTo(FRAMES);
+  }
+
+  /**
+   * Returns the bytes allocated per frame by one run of {@code frames}, rounded down. A first run
+   * lets reflection inflate its accessor and the JIT settle. Allocations the VM makes on its own
+   * during the measured run are spread over all frames and stay below a byte each.
+   */
+  private static long allocatedBytesPerFrame(Runnable frames) {
+    com.sun.management.ThreadMXBean threads = threadMXBean();
+    assumeTrue(threads != null && threads.isThreadAllocatedMemoryEnabled());
+    long threadId = Thread.currentThread().getId();
+
+    frames.run();
+    long before = threads.getThreadAllocatedBytes(threadId);
+    frames.run();
+    return (threads.getThreadAllocatedBytes(threadId) - before) / FRAMES;
+  }
+
+  private static com.sun.management.ThreadMXBean threadMXBean() {
+    java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    return threads instanceof com.sun.management.ThreadMXBean
+        ? (com.sun.management.ThreadMXBean) threads
+        : null;
+  }
+}
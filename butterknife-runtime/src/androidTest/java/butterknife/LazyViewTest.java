@@ -0,0 +1,51 @@
+package butterknife;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+import androidx.test.InstrumentationRegistry;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public class LazyViewTest {
+  private final Context context = InstrumentationRegistry.getContext();
+
+  @Test public void findsViewOnceOnFirstGet() {
+    FrameLayout root = new FrameLayout(context);
+    TextView text = new TextView(context);
+    text.setId(1);
+
+    // Created before the view exists, so the lookup cannot have happened yet.
+    LazyView<TextView> lazy = LazyView.required(root, 1, "field 'text'", TextView.class);
+    assertThat(lazy.isResolved()).isFalse();
+    root.addView(text);
+
+    assertThat(lazy.get()).isSameAs(text);
+    // Still returned once detached, so the second get did not search the hierarchy again.
+    root.removeView(text);
+    assertThat(lazy.get()).isSameAs(text);
+    assertThat(lazy.isResolved()).isTrue();
+  }
+
+  @Test public void optionalViewResolvesToNull() {
+    View root = new View(context);
+    LazyView<View> lazy = LazyView.optional(root, 1, "field 'view'", View.class);
+    assertThat(lazy.get()).isNull();
+    assertThat(lazy.isResolved()).isTrue();
+  }
+
+  @Test public void requiredViewThrowsOnGet() {
+    View root = new View(context);
+    LazyView<View> lazy = LazyView.required(root, android.R.id.button1, "field 'view'", View.class);
+    try {
+      lazy.get();
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessageThat().startsWith("Required view 'button1' with ID ");
+    }
+    assertThat(lazy.isResolved()).isFalse();
+  }
+}
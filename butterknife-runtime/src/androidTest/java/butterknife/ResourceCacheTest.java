@@ -0,0 +1,86 @@
+package butterknife;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import androidx.core.content.ContextCompat;
+import androidx.test.InstrumentationRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ResourceCacheTest {
+  private final Context context = InstrumentationRegistry.getContext();
+  private final Resources res = context.getResources();
+
+  @After public void tearDown() {
+    ResourceCache.clear();
+  }
+
+  @Test public void valuesMatchResources() {
+    int dimen = android.R.dimen.app_icon_size;
+    assertThat(ResourceCache.getDimensionPixelSize(res, dimen))
+        .isEqualTo(res.getDimensionPixelSize(dimen));
+    assertThat(ResourceCache.getDimension(res, dimen)).isEqualTo(res.getDimension(dimen));
+    assertThat(ResourceCache.getString(res, android.R.string.ok))
+        .isEqualTo(res.getString(android.R.string.ok));
+    // Read again from the cache.
+    assertThat(ResourceCache.getDimensionPixelSize(res, dimen))
+        .isEqualTo(res.getDimensionPixelSize(dimen));
+  }
+
+  @Test public void colorsMatchResources() {
+    assertThat(ResourceCache.getColor(context, android.R.color.black))
+        .isEqualTo(ContextCompat.getColor(context, android.R.color.black));
+    // A color state list is resolved for each call rather than cached.
+    int id = android.R.color.primary_text_dark;
+    assertThat(ResourceCache.getColor(context, id)).isEqualTo(ContextCompat.getColor(context, id));
+    assertThat(ResourceCache.getColor(context, id)).isEqualTo(ContextCompat.getColor(context, id));
+  }
+
+  @Test public void themeFreeColorStateListIsShared() {
+    int id = android.R.color.black;
+    ColorStateList first = ResourceCache.getColorStateList(context, id);
+    assertThat(first.getDefaultColor())
+        .isEqualTo(ContextCompat.getColorStateList(context, id).getDefaultColor());
+    assertThat(ResourceCache.getColorStateList(context, id)).isSameAs(first);
+  }
+
+  @Test public void arraysAreCopies() {
+    int id = android.R.array.emailAddressTypes;
+    String[] first = ResourceCache.getStringArray(res, id);
+    first[0] = "changed";
+    String[] second = ResourceCache.getStringArray(res, id);
+    assertThat(second[0]).isNotEqualTo("changed");
+    assertThat(second).isEqualTo(res.getStringArray(id));
+  }
+
+  @Test public void configurationChangeKeepsValuesCorrect() {
+    int dimen = android.R.dimen.app_icon_size;
+    ResourceCache.getDimensionPixelSize(res, dimen);
+    ResourceCache.getString(res, android.R.string.ok);
+
+    Configuration configuration = new Configuration(res.getConfiguration());
+    configuration.orientation = configuration.orientation == Configuration.ORIENTATION_PORTRAIT
+        ? Configuration.ORIENTATION_LANDSCAPE
+        : Configuration.ORIENTATION_PORTRAIT;
+    ResourceCache.onConfigurationChanged(configuration);
+
+    assertThat(ResourceCache.getDimensionPixelSize(res, dimen))
+        .isEqualTo(res.getDimensionPixelSize(dimen));
+    assertThat(ResourceCache.getString(res, android.R.string.ok))
+        .isEqualTo(res.getString(android.R.string.ok));
+  }
+
+  @Test public void maxBitmapBytesMustBePositive() {
+    try {
+      ResourceCache.setMaxBitmapBytes(0);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().isEqualTo("maxBytes <= 0: 0");
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.view.View;
+import androidx.test.InstrumentationRegistry;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class DebouncingOnClickListenerTest {
+  private final Context context = InstrumentationRegistry.getContext();
+
+  @Test public void windowIgnoresClicksUntilItElapses() {
+    CountingListener listener = new CountingListener(100);
+    View view = new View(context);
+
+    listener.onClick(view);
+    listener.onClick(view);
+    assertThat(listener.clicks).isEqualTo(1);
+
+    SystemClock.sleep(100);
+    listener.onClick(view);
+    assertThat(listener.clicks).isEqualTo(2);
+  }
+
+  @Test public void windowsAreIndependentPerListener() {
+    CountingListener first = new CountingListener(10_000);
+    CountingListener second = new CountingListener(10_000);
+    View view = new View(context);
+
+    first.onClick(view);
+    second.onClick(view);
+    first.onClick(view);
+    assertThat(first.clicks).isEqualTo(1);
+    assertThat(second.clicks).isEqualTo(1);
+  }
+
+  @Test public void frameModeIgnoresClicksWithinAFrame() {
+    CountingListener listener = new CountingListener(0);
+    View view = new View(context);
+
+    listener.onClick(view);
+    listener.onClick(view);
+    assertThat(listener.clicks).isEqualTo(1);
+
+    SystemClock.sleep(DebouncingOnClickListener.FRAME_MILLIS);
+    listener.onClick(view);
+    assertThat(listener.clicks).isEqualTo(2);
+  }
+
+  @Test public void frameModeDoesNotBlockOtherListeners() {
+    CountingListener first = new CountingListener(0);
+    CountingListener second = new CountingListener(0);
+    View view = new View(context);
+
+    first.onClick(view);
+    second.onClick(view);
+    assertThat(first.clicks).isEqualTo(1);
+    assertThat(second.clicks).isEqualTo(1);
+  }
+
+  @Test public void negativeWindowThrows() {
+    try {
+      new CountingListener(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessageThat().isEqualTo("windowMillis < 0: -1");
+    }
+  }
+
+  private static final class CountingListener extends DebouncingOnClickListener {
+    int clicks;
+
+    CountingListener(long windowMillis) {
+      super(windowMillis);
+    }
+
+    @Override public void doClick(View v) {
+      clicks++;
+    }
+  }
+}
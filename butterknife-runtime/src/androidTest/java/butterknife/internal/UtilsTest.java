@@ -1,7 +1,11 @@
 package butterknife.internal;
 
 import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+import android.util.TypedValue;
 import android.view.View;
+import androidx.core.content.ContextCompat;
 import androidx.test.InstrumentationRegistry;
 import org.junit.Test;
 
@@ -35,6 +39,45 @@ public final class UtilsTest {
     }
   }
 
+  @Test public void typedValueLookupsMatchResources() {
+    Context context = InstrumentationRegistry.getContext();
+    Resources res = context.getResources();
+    TypedValue value = new TypedValue();
+    assertThat(Utils.getDimensionPixelSize(res, android.R.dimen.app_icon_size, value))
+        .isEqualTo(res.getDimensionPixelSize(android.R.dimen.app_icon_size));
+    assertThat(Utils.getDimension(res, android.R.dimen.app_icon_size, value))
+        .isEqualTo(res.getDimension(android.R.dimen.app_icon_size));
+    assertThat(Utils.getInteger(res, android.R.integer.config_shortAnimTime, value))
+        .isEqualTo(res.getInteger(android.R.integer.config_shortAnimTime));
+    assertThat(Utils.getColor(context, android.R.color.black, value))
+        .isEqualTo(ContextCompat.getColor(context, android.R.color.black));
+    // A color state list falls back to the full lookup.
+    assertThat(Utils.getColor(context, android.R.color.primary_text_dark, value))
+        .isEqualTo(ContextCompat.getColor(context, android.R.color.primary_text_dark));
+  }
+
+  @Test public void typedValueLookupThrowsForWrongType() {
+    Context context = InstrumentationRegistry.getContext();
+    try {
+      Utils.getDimension(context.getResources(), android.R.color.black, new TypedValue());
+      fail();
+    } catch (Resources.NotFoundException expected) {
+    }
+  }
+
+  @Test public void tintedDrawableResolvesOffMainThread() throws InterruptedException {
+    Context context = InstrumentationRegistry.getContext();
+    Drawable[] drawables = new Drawable[2];
+    Thread worker = new Thread(() -> drawables[0] = Utils.getTintedDrawable(context,
+        android.R.drawable.ic_menu_add, android.R.attr.colorForeground));
+    worker.start();
+    drawables[1] = Utils.getTintedDrawable(context, android.R.drawable.ic_menu_add,
+        android.R.attr.colorForeground);
+    worker.join();
+    assertThat(drawables[0]).isNotNull();
+    assertThat(drawables[1]).isNotNull();
+  }
+
   static final class EditModeView extends View {
     EditModeView(Context context) {
       super(context);
@@ -0,0 +1,64 @@
+package butterknife.internal;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+import androidx.test.InstrumentationRegistry;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ViewTableTest {
+  private final Context context = InstrumentationRegistry.getContext();
+
+  @Test public void findsViewsLikeFindViewById() {
+    FrameLayout root = new FrameLayout(context);
+    FrameLayout group = new FrameLayout(context);
+    group.setId(1);
+    View first = new View(context);
+    first.setId(2);
+    group.addView(first);
+    root.addView(group);
+    View second = new View(context);
+    second.setId(2);
+    root.addView(second);
+    TextView text = new TextView(context);
+    text.setId(3);
+    root.addView(text);
+
+    ViewTable views = ViewTable.find(root, 3, 2, 1, 2);
+    assertThat(views.findView(1)).isSameAs(root.findViewById(1));
+    assertThat(views.findView(2)).isSameAs(root.findViewById(2));
+    assertThat(views.findView(2)).isSameAs(first);
+    assertThat(views.findRequiredViewAsType(3, "yo mama", TextView.class)).isSameAs(text);
+    assertThat(views.findView(4)).isNull();
+  }
+
+  @Test public void findWalksHierarchyOnce() {
+    FrameLayout root = new FrameLayout(context);
+    View view = new View(context);
+    view.setId(1);
+    root.addView(view);
+    ViewTable views = ViewTable.find(root, 1, 2, 3);
+    // Lookups after the walk are served from the table, not from the hierarchy.
+    root.removeView(view);
+    assertThat(views.findView(1)).isSameAs(view);
+    assertThat(views.findRequiredView(1, "yo mama")).isSameAs(view);
+    assertThat(views.findOptionalViewAsType(2, "yo mama", View.class)).isNull();
+  }
+
+  @Test public void finderThrowsNiceError() {
+    View view = new View(context);
+    ViewTable views = ViewTable.find(view, android.R.id.button1);
+    try {
+      views.findRequiredView(android.R.id.button1, "yo mama");
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Required view 'button1' with ID "
+          + android.R.id.button1
+          + " for yo mama was not found. If this view is optional add '@Nullable' (fields) or '@Optional' (methods) annotation.");
+    }
+  }
+}
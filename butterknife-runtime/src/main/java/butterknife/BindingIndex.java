@@ -0,0 +1,26 @@
+package butterknife;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A build-time index of the generated bindings for a module. Implementations are generated by the
+ * annotation processor when the {@code butterknife.index} option is set to a fully-qualified class
+ * name, e.g. {@code -Abutterknife.index=com.example.ExampleBindingIndex}.
+ * <p>
+ * Register one instance per module with {@code ButterKnife.addIndex} so binding lookups are
+ * answered without probing the class loader for {@code _ViewBinding} classes.
+ */
+public interface BindingIndex {
+  /**
+   * Returns the factory of the generated binding for {@code targetClass}, or null if the class has
+   * no bindings of its own in this index. Superclasses are looked up separately.
+   */
+  @Nullable UnbinderFactory getBindingFactory(@NonNull Class<?> targetClass);
+
+  /**
+   * Returns the {@linkplain Class#getName() names} of every class in this index which has a
+   * generated binding. Used by {@code ButterKnife.warmUp} to load those classes ahead of time.
+   */
+  @NonNull String[] getTargetClassNames();
+}
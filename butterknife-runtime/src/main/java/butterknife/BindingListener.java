@@ -0,0 +1,29 @@
+package butterknife;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * Receives timings for every binding, e.g. to report which screens spend the most time binding
+ * before their first frame. Install one with {@code ButterKnife.setBindingListener}. Binding
+ * measures nothing while no listener is installed.
+ * <p>
+ * Durations are in nanoseconds as measured by {@link System#nanoTime()}.
+ */
+public interface BindingListener {
+  /**
+   * Called after {@code targetClass} has been bound.
+   *
+   * @param cacheHit Whether the binding for {@code targetClass} had already been looked up.
+   * @param lookupNanos Time spent finding the binding of {@code targetClass}.
+   * @param bindNanos Time spent creating the binding, i.e. finding views, setting listeners, and
+   * loading resources.
+   * @param findViewCount Number of view hierarchy lookups made while creating the binding, as
+   * recorded by the generated binding classes at compile time.
+   */
+  @UiThread void onBind(@NonNull Class<?> targetClass, boolean cacheHit, long lookupNanos,
+      long bindNanos, int findViewCount);
+
+  /** Called after a binding of {@code targetClass} has been unbound. */
+  @UiThread void onUnbind(@NonNull Class<?> targetClass, long unbindNanos);
+}
@@ -0,0 +1,68 @@
+package butterknife;
+
+import android.view.View;
+import androidx.annotation.IdRes;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import butterknife.internal.Utils;
+
+/**
+ * A bound view which is only looked up the first time it is {@linkplain #get() requested}. Use it
+ * as the type of a {@link BindView @BindView} field for views which are rarely touched, e.g. those
+ * in collapsed sections, so binding does not have to search the hierarchy for them:
+ * <pre><code>
+ * {@literal @}BindView(R.id.details) LazyView&lt;TextView&gt; details;
+ * </code></pre>
+ * The result of the first lookup is kept. Like other bound fields the field is cleared by
+ * {@link Unbinder#unbind()}, so do not hold on to the instance itself.
+ */
+public final class LazyView<T> {
+  private @Nullable View source;
+  private final @IdRes int id;
+  private final String who;
+  private final Class<?> cls;
+  private final boolean required;
+  private @Nullable T view;
+
+  private LazyView(View source, @IdRes int id, String who, Class<?> cls, boolean required) {
+    this.source = source;
+    this.id = id;
+    this.who = who;
+    this.cls = cls;
+    this.required = required;
+  }
+
+  /** Used by generated code for fields which are not {@code @Nullable}. */
+  public static <T> LazyView<T> required(View source, @IdRes int id, String who, Class<?> cls) {
+    return new LazyView<>(source, id, who, cls, true);
+  }
+
+  /** Used by generated code for {@code @Nullable} fields. */
+  public static <T> LazyView<T> optional(View source, @IdRes int id, String who, Class<?> cls) {
+    return new LazyView<>(source, id, who, cls, false);
+  }
+
+  /**
+   * Returns the view, looking it up on the first call. Only returns null for {@code @Nullable}
+   * fields whose view is not in the hierarchy.
+   */
+  @UiThread
+  @SuppressWarnings("unchecked") // The field type was checked against cls when compiling.
+  public T get() {
+    View source = this.source;
+    if (source != null) {
+      Object view = required
+          ? Utils.findRequiredViewAsType(source, id, who, cls)
+          : Utils.findOptionalViewAsType(source, id, who, cls);
+      this.view = (T) view;
+      this.source = null;
+    }
+    return view;
+  }
+
+  /** Whether {@link #get()} has already looked up the view. */
+  @UiThread
+  public boolean isResolved() {
+    return source == null;
+  }
+}
@@ -0,0 +1,23 @@
+package butterknife;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * An {@link Unbinder} which can hand its views and listeners over to another instance of the
+ * target class without looking anything up again, e.g. when a recycled view holder is reused for
+ * a new holder instance. Generated bindings implement it when the {@code butterknife.rebindable}
+ * processor option is set to {@code true}. Superclasses with bindings need the same option.
+ * <pre><code>
+ * Unbinder unbinder = ButterKnife.bind(holder, itemView);
+ * // Later, for a new holder of the same class using the same item view:
+ * ((Rebindable) unbinder).rebind(newHolder);
+ * </code></pre>
+ */
+public interface Rebindable extends Unbinder {
+  /**
+   * Copies every bound field of the current target to {@code target} and makes the bound
+   * listeners call {@code target} from now on. The previous target's fields are left untouched.
+   */
+  @UiThread void rebind(@NonNull Object target);
+}
@@ -0,0 +1,479 @@
+package butterknife;
+
+import android.content.Context;
+import android.content.pm.ActivityInfo;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.XmlResourceParser;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.util.LruCache;
+import android.util.SparseArray;
+import android.util.TypedValue;
+import androidx.annotation.ArrayRes;
+import androidx.annotation.AttrRes;
+import androidx.annotation.BoolRes;
+import androidx.annotation.ColorInt;
+import androidx.annotation.ColorRes;
+import androidx.annotation.DimenRes;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.FontRes;
+import androidx.annotation.IntegerRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StringRes;
+import androidx.core.content.ContextCompat;
+import androidx.core.content.res.ResourcesCompat;
+import butterknife.internal.Utils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import static butterknife.internal.Constants.NO_RES_ID;
+
+/**
+ * A process-wide cache of resources which are expensive to load, used by fields whose binding
+ * annotation sets {@code cached = true}.
+ * <pre><code>
+ * {@literal @}BindBitmap(value = R.drawable.logo, cached = true) Bitmap logo;
+ * </code></pre>
+ * Every entry remembers the {@link Configuration} it was loaded in and is loaded again when it is
+ * requested for a configuration which differs in a way the resource depends on. Values such as
+ * strings, colors and dimensions only depend on the qualifiers of the resource they came from, so
+ * rotating the screen does not invalidate a string which has no orientation-specific variant.
+ * Everything else is loaded again on any change.
+ * <p>
+ * Activities which handle configuration changes themselves should forward them to
+ * {@link #onConfigurationChanged(Configuration)} before binding again. Bitmaps are evicted least
+ * recently used first once their total size exceeds {@link #setMaxBitmapBytes the limit}. Other
+ * entries are kept until {@link #clear()} or until a configuration change affects them.
+ * <p>
+ * Drawables are cached as their {@link Drawable.ConstantState} so every field still receives its
+ * own instance. Drawables which reference theme attributes should not be cached as the theme is
+ * not part of the key, only the resolved tint. Color state lists which reference theme attributes
+ * are loaded for every caller instead of being cached.
+ * <p>
+ * Bitmaps are not copied: every field bound to the same ID receives the same {@link Bitmap}. A
+ * cached bitmap must never be {@linkplain Bitmap#recycle() recycled} or mutated, as that affects
+ * every other field which holds it and every later binding.
+ */
+public final class ResourceCache {
+  /** Changing configurations of an entry which must be loaded again on any change. */
+  private static final int ANY_CHANGE = 0xFFFFFFFF;
+  /** {@link ActivityInfo#CONFIG_DENSITY}, which is only defined from API 17. */
+  private static final int CONFIG_DENSITY = 0x1000;
+  /** Dimensions are scaled by the display metrics whatever their qualifiers. */
+  private static final int DIMENSION_CHANGES = CONFIG_DENSITY | ActivityInfo.CONFIG_FONT_SCALE;
+
+  /** Cached in place of a value which depends on the caller's theme and so is never reused. */
+  private static final Object THEMED = new Object();
+
+  private static final Object LOCK = new Object();
+  private static final List<SparseArray<Entry>> CACHES = new ArrayList<>();
+  private static final SparseArray<Entry> FONTS = newCache();
+  private static final SparseArray<Entry> COLOR_STATE_LISTS = newCache();
+  private static final SparseArray<Entry> DRAWABLES = newCache();
+  private static final SparseArray<Entry> BOOLEANS = newCache();
+  private static final SparseArray<Entry> COLORS = newCache();
+  private static final SparseArray<Entry> DIMENSIONS = newCache();
+  private static final SparseArray<Entry> DIMENSION_PIXEL_SIZES = newCache();
+  private static final SparseArray<Entry> FLOATS = newCache();
+  private static final SparseArray<Entry> INTEGERS = newCache();
+  private static final SparseArray<Entry> STRINGS = newCache();
+  private static final SparseArray<Entry> INT_ARRAYS = newCache();
+  private static final SparseArray<Entry> STRING_ARRAYS = newCache();
+  private static final SparseArray<Entry> TEXT_ARRAYS = newCache();
+  private static BitmapCache bitmaps = new BitmapCache(defaultMaxBitmapBytes());
+
+  /** Returns the bitmap decoded from {@code id}, decoding it only if it is not cached. */
+  public static Bitmap getBitmap(@NonNull Resources res, @DrawableRes int id) {
+    Configuration configuration = res.getConfiguration();
+    Entry cached = bitmaps.get(id);
+    if (cached != null && cached.isValid(configuration)) {
+      return (Bitmap) cached.value;
+    }
+    Bitmap bitmap = BitmapFactory.decodeResource(res, id);
+    if (bitmap != null) {
+      bitmaps.put(id, new Entry(configuration, ANY_CHANGE, NO_RES_ID, bitmap));
+    }
+    return bitmap;
+  }
+
+  /** Returns the font for {@code id}, loading it only if it is not cached. */
+  public static Typeface getFont(@NonNull Context context, @FontRes int id) {
+    Configuration configuration = context.getResources().getConfiguration();
+    Typeface cached = (Typeface) get(FONTS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    Typeface font = ResourcesCompat.getFont(context, id);
+    if (font != null) {
+      put(FONTS, id, new Entry(configuration, ANY_CHANGE, NO_RES_ID, font));
+    }
+    return font;
+  }
+
+  /**
+   * Returns the color state list for {@code id}, loading it only if it is not cached. Lists which
+   * reference theme attributes are loaded again for every call.
+   */
+  public static ColorStateList getColorStateList(@NonNull Context context, @ColorRes int id) {
+    Resources res = context.getResources();
+    Configuration configuration = res.getConfiguration();
+    Object cached = get(COLOR_STATE_LISTS, id, NO_RES_ID, configuration);
+    if (cached instanceof ColorStateList) {
+      return (ColorStateList) cached;
+    }
+    ColorStateList colors = ContextCompat.getColorStateList(context, id);
+    if (cached == null && colors != null) {
+      Object value = referencesTheme(res, id) ? THEMED : colors;
+      put(COLOR_STATE_LISTS, id, new Entry(configuration, ANY_CHANGE, NO_RES_ID, value));
+    }
+    return colors;
+  }
+
+  /** Returns a new drawable for {@code id}, created from a cached state when possible. */
+  public static Drawable getDrawable(@NonNull Context context, @DrawableRes int id) {
+    return getDrawable(context, id, NO_RES_ID);
+  }
+
+  /**
+   * Returns a new drawable for {@code id}, tinted with the color {@code tintAttrId} resolves to in
+   * the context's theme, created from a cached state when possible.
+   */
+  public static Drawable getDrawable(@NonNull Context context, @DrawableRes int id,
+      @AttrRes int tintAttrId) {
+    Resources res = context.getResources();
+    Configuration configuration = res.getConfiguration();
+    int tint = NO_RES_ID;
+    TypedValue value = new TypedValue();
+    if (tintAttrId != NO_RES_ID) {
+      if (context.getTheme().resolveAttribute(tintAttrId, value, true)) {
+        tint = value.resourceId;
+      }
+    }
+    Drawable.ConstantState cached =
+        (Drawable.ConstantState) get(DRAWABLES, id, tint, configuration);
+    if (cached != null) {
+      return cached.newDrawable(res);
+    }
+    Drawable drawable = tintAttrId != NO_RES_ID
+        ? Utils.getTintedDrawable(context, id, tintAttrId, value)
+        : ContextCompat.getDrawable(context, id);
+    Drawable.ConstantState state = drawable != null ? drawable.getConstantState() : null;
+    if (state != null) {
+      put(DRAWABLES, id, new Entry(configuration, ANY_CHANGE, tint, state));
+    }
+    return drawable;
+  }
+
+  /** Returns the boolean value of {@code id}, reading it only if it is not cached. */
+  public static boolean getBoolean(@NonNull Resources res, @BoolRes int id) {
+    Configuration configuration = res.getConfiguration();
+    Boolean cached = (Boolean) get(BOOLEANS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    boolean bool = Utils.getBoolean(res, id, value);
+    put(BOOLEANS, id, new Entry(configuration, changingConfigurations(value), NO_RES_ID, bool));
+    return bool;
+  }
+
+  /**
+   * Returns the color value of {@code id}, reading it only if it is not cached. Only plain color
+   * values are cached. Theme attributes and color state lists resolve against the caller's theme
+   * and are read again for every call.
+   */
+  @ColorInt
+  public static int getColor(@NonNull Context context, @ColorRes int id) {
+    Configuration configuration = context.getResources().getConfiguration();
+    Integer cached = (Integer) get(COLORS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    int color = Utils.getColor(context, id, value);
+    if (value.type >= TypedValue.TYPE_FIRST_INT && value.type <= TypedValue.TYPE_LAST_INT) {
+      put(COLORS, id, new Entry(configuration, changingConfigurations(value), NO_RES_ID, color));
+    }
+    return color;
+  }
+
+  /** Returns the dimension value of {@code id}, reading it only if it is not cached. */
+  public static float getDimension(@NonNull Resources res, @DimenRes int id) {
+    Configuration configuration = res.getConfiguration();
+    Float cached = (Float) get(DIMENSIONS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    float dimension = Utils.getDimension(res, id, value);
+    int changes = changingConfigurations(value) | DIMENSION_CHANGES;
+    put(DIMENSIONS, id, new Entry(configuration, changes, NO_RES_ID, dimension));
+    return dimension;
+  }
+
+  /** Returns the dimension of {@code id} in whole pixels, reading it only if it is not cached. */
+  public static int getDimensionPixelSize(@NonNull Resources res, @DimenRes int id) {
+    Configuration configuration = res.getConfiguration();
+    Integer cached = (Integer) get(DIMENSION_PIXEL_SIZES, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    int size = Utils.getDimensionPixelSize(res, id, value);
+    int changes = changingConfigurations(value) | DIMENSION_CHANGES;
+    put(DIMENSION_PIXEL_SIZES, id, new Entry(configuration, changes, NO_RES_ID, size));
+    return size;
+  }
+
+  /** Returns the float value of {@code id}, reading it only if it is not cached. */
+  public static float getFloat(@NonNull Context context, @DimenRes int id) {
+    Configuration configuration = context.getResources().getConfiguration();
+    Float cached = (Float) get(FLOATS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    float result = Utils.getFloat(context, id, value);
+    put(FLOATS, id, new Entry(configuration, changingConfigurations(value), NO_RES_ID, result));
+    return result;
+  }
+
+  /** Returns the integer value of {@code id}, reading it only if it is not cached. */
+  public static int getInteger(@NonNull Resources res, @IntegerRes int id) {
+    Configuration configuration = res.getConfiguration();
+    Integer cached = (Integer) get(INTEGERS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    int integer = Utils.getInteger(res, id, value);
+    put(INTEGERS, id, new Entry(configuration, changingConfigurations(value), NO_RES_ID, integer));
+    return integer;
+  }
+
+  /** Returns the string value of {@code id}, reading it only if it is not cached. */
+  public static String getString(@NonNull Resources res, @StringRes int id) {
+    Configuration configuration = res.getConfiguration();
+    String cached = (String) get(STRINGS, id, NO_RES_ID, configuration);
+    if (cached != null) {
+      return cached;
+    }
+    TypedValue value = new TypedValue();
+    res.getValue(id, value, true);
+    String string = value.type == TypedValue.TYPE_STRING
+        ? value.string.toString()
+        : res.getString(id); // Throws the framework's exception.
+    put(STRINGS, id, new Entry(configuration, changingConfigurations(value), NO_RES_ID, string));
+    return string;
+  }
+
+  /**
+   * Returns a copy of the integer array {@code id}, reading it only if it is not cached. Arrays
+   * are loaded again on any configuration change.
+   */
+  public static int[] getIntArray(@NonNull Resources res, @ArrayRes int id) {
+    Configuration configuration = res.getConfiguration();
+    int[] cached = (int[]) get(INT_ARRAYS, id, NO_RES_ID, configuration);
+    if (cached == null) {
+      cached = res.getIntArray(id);
+      put(INT_ARRAYS, id, new Entry(configuration, ANY_CHANGE, NO_RES_ID, cached));
+    }
+    return cached.clone();
+  }
+
+  /**
+   * Returns a copy of the string array {@code id}, reading it only if it is not cached. Arrays
+   * are loaded again on any configuration change.
+   */
+  public static String[] getStringArray(@NonNull Resources res, @ArrayRes int id) {
+    Configuration configuration = res.getConfiguration();
+    String[] cached = (String[]) get(STRING_ARRAYS, id, NO_RES_ID, configuration);
+    if (cached == null) {
+      cached = res.getStringArray(id);
+      put(STRING_ARRAYS, id, new Entry(configuration, ANY_CHANGE, NO_RES_ID, cached));
+    }
+    return cached.clone();
+  }
+
+  /**
+   * Returns a copy of the text array {@code id}, reading it only if it is not cached. Arrays are
+   * loaded again on any configuration change.
+   */
+  public static CharSequence[] getTextArray(@NonNull Resources res, @ArrayRes int id) {
+    Configuration configuration = res.getConfiguration();
+    CharSequence[] cached = (CharSequence[]) get(TEXT_ARRAYS, id, NO_RES_ID, configuration);
+    if (cached == null) {
+      cached = res.getTextArray(id);
+      put(TEXT_ARRAYS, id, new Entry(configuration, ANY_CHANGE, NO_RES_ID, cached));
+    }
+    return cached.clone();
+  }
+
+  /**
+   * Drops the entries which depend on something that differs in {@code newConfig} and marks the
+   * rest as valid for it. Call this from {@code onConfigurationChanged} of an activity which
+   * handles configuration changes itself, before binding it again.
+   */
+  public static void onConfigurationChanged(@NonNull Configuration newConfig) {
+    Configuration configuration = new Configuration(newConfig);
+    for (Map.Entry<Integer, Entry> bitmap : bitmaps.snapshot().entrySet()) {
+      if (!bitmap.getValue().revalidate(configuration)) {
+        bitmaps.remove(bitmap.getKey());
+      }
+    }
+    synchronized (LOCK) {
+      for (SparseArray<Entry> entries : CACHES) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+          if (!entries.valueAt(i).revalidate(configuration)) {
+            entries.removeAt(i);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Sets the maximum total size in bytes of cached bitmaps. Bitmaps which are already cached are
+   * dropped.
+   */
+  public static void setMaxBitmapBytes(int maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes <= 0: " + maxBytes);
+    }
+    BitmapCache old = bitmaps;
+    bitmaps = new BitmapCache(maxBytes);
+    old.evictAll();
+  }
+
+  /** Drops every cached resource. */
+  public static void clear() {
+    bitmaps.evictAll();
+    synchronized (LOCK) {
+      for (SparseArray<Entry> entries : CACHES) {
+        entries.clear();
+      }
+    }
+  }
+
+  private static @Nullable Object get(SparseArray<Entry> entries, int id, int tint,
+      Configuration configuration) {
+    synchronized (LOCK) {
+      Entry entry = entries.get(id);
+      if (entry != null && entry.tint == tint && entry.isValid(configuration)) {
+        return entry.value;
+      }
+      return null;
+    }
+  }
+
+  private static void put(SparseArray<Entry> entries, int id, Entry entry) {
+    synchronized (LOCK) {
+      entries.put(id, entry);
+    }
+  }
+
+  private static SparseArray<Entry> newCache() {
+    SparseArray<Entry> entries = new SparseArray<>();
+    CACHES.add(entries);
+    return entries;
+  }
+
+  /**
+   * Returns true if the color {@code id} resolves to a theme attribute or is a color state list
+   * file which references one, directly or through another color state list.
+   */
+  private static boolean referencesTheme(Resources res, @ColorRes int id) {
+    TypedValue value = new TypedValue();
+    res.getValue(id, value, true);
+    if (value.type == TypedValue.TYPE_ATTRIBUTE) {
+      return true;
+    }
+    if (value.type != TypedValue.TYPE_STRING) {
+      return false;
+    }
+    XmlResourceParser parser = res.getXml(id);
+    try {
+      for (int type = parser.next(); type != XmlPullParser.END_DOCUMENT; type = parser.next()) {
+        if (type != XmlPullParser.START_TAG) {
+          continue;
+        }
+        for (int i = 0, count = parser.getAttributeCount(); i < count; i++) {
+          String attribute = parser.getAttributeValue(i);
+          if (attribute != null && attribute.startsWith("?")) {
+            return true;
+          }
+          int reference = parser.getAttributeResourceValue(i, NO_RES_ID);
+          if (reference != NO_RES_ID && referencesTheme(res, reference)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    } catch (XmlPullParserException | IOException e) {
+      return true; // Left uncached, loading it again reports the problem.
+    } finally {
+      parser.close();
+    }
+  }
+
+  private static int changingConfigurations(TypedValue value) {
+    return Build.VERSION.SDK_INT >= 21 ? value.changingConfigurations : ANY_CHANGE;
+  }
+
+  private static int defaultMaxBitmapBytes() {
+    return (int) Math.min(Runtime.getRuntime().maxMemory() / 8, Integer.MAX_VALUE);
+  }
+
+  private static final class Entry {
+    /** Never modified once assigned, only replaced. */
+    volatile Configuration configuration;
+    /** The {@link ActivityInfo} configuration flags the value depends on. */
+    final int changingConfigurations;
+    final int tint;
+    final Object value;
+
+    Entry(Configuration configuration, int changingConfigurations, int tint, Object value) {
+      this.configuration = new Configuration(configuration);
+      this.changingConfigurations = changingConfigurations;
+      this.tint = tint;
+      this.value = value;
+    }
+
+    boolean isValid(Configuration configuration) {
+      return (this.configuration.diff(configuration) & changingConfigurations) == 0;
+    }
+
+    /** Returns false if the value is stale in {@code configuration}, or adopts it otherwise. */
+    boolean revalidate(Configuration configuration) {
+      if (!isValid(configuration)) {
+        return false;
+      }
+      this.configuration = configuration;
+      return true;
+    }
+  }
+
+  private static final class BitmapCache extends LruCache<Integer, Entry> {
+    BitmapCache(int maxBytes) {
+      super(maxBytes);
+    }
+
+    @Override protected int sizeOf(Integer id, Entry entry) {
+      return ((Bitmap) entry.value).getByteCount();
+    }
+  }
+
+  private ResourceCache() {
+    throw new AssertionError("No instances.");
+  }
+}
@@ -0,0 +1,21 @@
+package butterknife;
+
+import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * Creates a generated binding for a target. Every generated {@code _ViewBinding} class exposes an
+ * instance as its {@code FACTORY} field so bindings can be created without reflection.
+ */
+public interface UnbinderFactory {
+  @NonNull @UiThread Unbinder bind(@NonNull Object target, @NonNull View source);
+
+  /**
+   * Returns the number of view hierarchy lookups made by the bindings this factory creates, not
+   * counting those made by the binding of a superclass.
+   */
+  default int getFindViewCount() {
+    return 0;
+  }
+}
@@ -0,0 +1,29 @@
+package butterknife.internal;
+
+import android.view.View;
+import androidx.annotation.NonNull;
+import butterknife.Unbinder;
+import butterknife.UnbinderFactory;
+
+/**
+ * A factory of a generated binding which also reports how many view lookups the binding makes,
+ * so the count can be read without reflection on the binding class.
+ */
+@SuppressWarnings("unused") // Used by generated code.
+public final class CountedUnbinderFactory implements UnbinderFactory {
+  private final int findViewCount;
+  private final UnbinderFactory delegate;
+
+  public CountedUnbinderFactory(int findViewCount, UnbinderFactory delegate) {
+    this.findViewCount = findViewCount;
+    this.delegate = delegate;
+  }
+
+  @NonNull @Override public Unbinder bind(@NonNull Object target, @NonNull View source) {
+    return delegate.bind(target, source);
+  }
+
+  @Override public int getFindViewCount() {
+    return findViewCount;
+  }
+}
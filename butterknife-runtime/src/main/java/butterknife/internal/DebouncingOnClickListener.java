@@ -1,28 +1,43 @@
 package butterknife.internal;
 
-import android.os.Handler;
-import android.os.Looper;
+import android.os.SystemClock;
 import android.view.View;
 
 /**
- * A {@linkplain View.OnClickListener click listener} that debounces multiple clicks posted in the
- * same frame. A click on one button disables all buttons for that frame.
+ * A {@linkplain View.OnClickListener click listener} that debounces clicks per listener: a click
+ * within the window of the last accepted one is ignored. By default the window is about one frame,
+ * which drops the repeated clicks a single tap can deliver without affecting other views.
+ * <p>
+ * Clicks are compared by their {@link SystemClock#uptimeMillis()} timestamps, so nothing is posted
+ * to the main looper.
  */
 public abstract class DebouncingOnClickListener implements View.OnClickListener {
-  private static final Runnable ENABLE_AGAIN = () -> enabled = true;
-  private static final Handler MAIN = new Handler(Looper.getMainLooper());
+  /** The window used for frame-based debouncing, one frame at 60 frames per second. */
+  static final long FRAME_MILLIS = 16;
 
-  static boolean enabled = true;
+  private final long windowMillis;
+  private long lastClickMillis;
 
-  @Override public final void onClick(View v) {
-    if (enabled) {
-      enabled = false;
+  public DebouncingOnClickListener() {
+    this(0);
+  }
 
-      // Post to the main looper directly rather than going through the view.
-      // Ensure that ENABLE_AGAIN will be executed, avoid static field {@link #enabled}
-      // staying in false state.
-      MAIN.post(ENABLE_AGAIN);
+  /**
+   * @param windowMillis milliseconds during which further clicks on this listener are ignored, or
+   * 0 to ignore them for about one frame.
+   */
+  public DebouncingOnClickListener(long windowMillis) {
+    if (windowMillis < 0) {
+      throw new IllegalArgumentException("windowMillis < 0: " + windowMillis);
+    }
+    this.windowMillis = windowMillis > 0 ? windowMillis : FRAME_MILLIS;
+    this.lastClickMillis = -this.windowMillis;
+  }
 
+  @Override public final void onClick(View v) {
+    long now = SystemClock.uptimeMillis();
+    if (now - lastClickMillis >= windowMillis) {
+      lastClickMillis = now;
       doClick(v);
     }
   }
@@ -0,0 +1,16 @@
+package butterknife.internal;
+
+import android.view.View;
+import android.widget.AdapterView;
+
+/**
+ * An {@link AdapterView.OnItemSelectedListener} which ignores every callback. Generated listeners
+ * extend it and override only the callbacks which are bound.
+ */
+public abstract class EmptyOnItemSelectedListener implements AdapterView.OnItemSelectedListener {
+  @Override public void onItemSelected(AdapterView<?> parent, View view, int position, long id) {
+  }
+
+  @Override public void onNothingSelected(AdapterView<?> parent) {
+  }
+}
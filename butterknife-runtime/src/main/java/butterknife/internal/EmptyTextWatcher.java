@@ -1,9 +1,13 @@
-package butterknife;
+package butterknife.internal;
 
 import android.text.Editable;
 import android.text.TextWatcher;
 
-class EmptyTextWatcher implements TextWatcher {
+/**
+ * A {@link TextWatcher} which ignores every callback. Generated listeners extend it and override
+ * only the callbacks which are bound.
+ */
+public abstract class EmptyTextWatcher implements TextWatcher {
   @Override public void beforeTextChanged(CharSequence s, int start, int count, int after) {
   }
 
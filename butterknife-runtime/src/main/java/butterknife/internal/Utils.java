@@ -6,10 +6,13 @@ import android.graphics.drawable.Drawable;
 import android.util.TypedValue;
 import android.view.View;
 import androidx.annotation.AttrRes;
+import androidx.annotation.BoolRes;
+import androidx.annotation.ColorInt;
+import androidx.annotation.ColorRes;
 import androidx.annotation.DimenRes;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.IdRes;
-import androidx.annotation.UiThread;
+import androidx.annotation.IntegerRes;
 import androidx.core.content.ContextCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
 import java.util.Arrays;
@@ -17,12 +20,29 @@ import java.util.List;
 
 @SuppressWarnings("WeakerAccess") // Used by generated code.
 public final class Utils {
-  private static final TypedValue VALUE = new TypedValue();
+  /** One value per thread so resources can be resolved off the main thread without locking. */
+  private static final ThreadLocal<TypedValue> VALUE = new ThreadLocal<TypedValue>() {
+    @Override protected TypedValue initialValue() {
+      return new TypedValue();
+    }
+  };
 
-  @UiThread // Implicit synchronization for use of shared resource VALUE.
   public static Drawable getTintedDrawable(Context context,
       @DrawableRes int id, @AttrRes int tintAttrId) {
-    boolean attributeFound = context.getTheme().resolveAttribute(tintAttrId, VALUE, true);
+    return getTintedDrawable(context, id, tintAttrId, VALUE.get());
+  }
+
+  public static float getFloat(Context context, @DimenRes int id) {
+    return getFloat(context, id, VALUE.get());
+  }
+
+  // The overloads below resolve a resource into a caller-supplied TypedValue. Generated code
+  // shares one TypedValue between all of a binding's resources instead of borrowing the
+  // Resources' temporary value, and its lock, for every lookup.
+
+  public static Drawable getTintedDrawable(Context context,
+      @DrawableRes int id, @AttrRes int tintAttrId, TypedValue value) {
+    boolean attributeFound = context.getTheme().resolveAttribute(tintAttrId, value, true);
     if (!attributeFound) {
       throw new Resources.NotFoundException("Required tint color attribute with name "
           + context.getResources().getResourceEntryName(tintAttrId)
@@ -33,14 +53,12 @@ public final class Utils {
 
     Drawable drawable = ContextCompat.getDrawable(context, id);
     drawable = DrawableCompat.wrap(drawable.mutate());
-    int color = ContextCompat.getColor(context, VALUE.resourceId);
+    int color = ContextCompat.getColor(context, value.resourceId);
     DrawableCompat.setTint(drawable, color);
     return drawable;
   }
 
-  @UiThread // Implicit synchronization for use of shared resource VALUE.
-  public static float getFloat(Context context, @DimenRes int id) {
-    TypedValue value = VALUE;
+  public static float getFloat(Context context, @DimenRes int id, TypedValue value) {
     context.getResources().getValue(id, value, true);
     if (value.type == TypedValue.TYPE_FLOAT) {
       return value.getFloat();
@@ -49,6 +67,48 @@ public final class Utils {
         + " type #0x" + Integer.toHexString(value.type) + " is not valid");
   }
 
+  @ColorInt
+  public static int getColor(Context context, @ColorRes int id, TypedValue value) {
+    context.getResources().getValue(id, value, true);
+    if (value.type >= TypedValue.TYPE_FIRST_INT && value.type <= TypedValue.TYPE_LAST_INT) {
+      return value.data;
+    }
+    // Color state lists and theme references need the full lookup.
+    return ContextCompat.getColor(context, id);
+  }
+
+  public static float getDimension(Resources res, @DimenRes int id, TypedValue value) {
+    res.getValue(id, value, true);
+    if (value.type == TypedValue.TYPE_DIMENSION) {
+      return TypedValue.complexToDimension(value.data, res.getDisplayMetrics());
+    }
+    return res.getDimension(id); // Throws the framework's exception.
+  }
+
+  public static int getDimensionPixelSize(Resources res, @DimenRes int id, TypedValue value) {
+    res.getValue(id, value, true);
+    if (value.type == TypedValue.TYPE_DIMENSION) {
+      return TypedValue.complexToDimensionPixelSize(value.data, res.getDisplayMetrics());
+    }
+    return res.getDimensionPixelSize(id); // Throws the framework's exception.
+  }
+
+  public static int getInteger(Resources res, @IntegerRes int id, TypedValue value) {
+    res.getValue(id, value, true);
+    if (value.type >= TypedValue.TYPE_FIRST_INT && value.type <= TypedValue.TYPE_LAST_INT) {
+      return value.data;
+    }
+    return res.getInteger(id); // Throws the framework's exception.
+  }
+
+  public static boolean getBoolean(Resources res, @BoolRes int id, TypedValue value) {
+    res.getValue(id, value, true);
+    if (value.type >= TypedValue.TYPE_FIRST_INT && value.type <= TypedValue.TYPE_LAST_INT) {
+      return value.data != 0;
+    }
+    return res.getBoolean(id); // Throws the framework's exception.
+  }
+
   @SafeVarargs
   public static <T> T[] arrayFilteringNull(T... views) {
     int end = 0;
@@ -89,8 +149,12 @@ public final class Utils {
     if (view != null) {
       return view;
     }
+    throw missingView(source, id, who);
+  }
+
+  static IllegalStateException missingView(View source, @IdRes int id, String who) {
     String name = getResourceEntryName(source, id);
-    throw new IllegalStateException("Required view '"
+    return new IllegalStateException("Required view '"
         + name
         + "' with ID "
         + id
@@ -0,0 +1,88 @@
+package butterknife.internal;
+
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.IdRes;
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * The views for a set of IDs, found with a single walk of the view hierarchy instead of one
+ * {@link View#findViewById} walk per ID. Used by generated code when the
+ * {@code butterknife.singlePassFind} option is enabled.
+ * <p>
+ * Like {@code findViewById} the first view in depth-first order wins when an ID is used more than
+ * once. Views which override how {@code findViewById} searches their children are not consulted.
+ */
+@SuppressWarnings("WeakerAccess") // Used by generated code.
+public final class ViewTable {
+  private final View source;
+  private final int[] ids;
+  private final View[] views;
+
+  private ViewTable(View source, int[] ids, View[] views) {
+    this.source = source;
+    this.ids = ids;
+    this.views = views;
+  }
+
+  public static ViewTable find(View source, @IdRes int... ids) {
+    int[] sorted = ids.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (sorted[i] != View.NO_ID && (count == 0 || sorted[count - 1] != sorted[i])) {
+        sorted[count++] = sorted[i];
+      }
+    }
+    if (count < sorted.length) {
+      sorted = Arrays.copyOf(sorted, count);
+    }
+
+    View[] views = new View[count];
+    collect(source, sorted, views, count);
+    return new ViewTable(source, sorted, views);
+  }
+
+  /** Returns the number of IDs which are still missing a view once {@code view} is visited. */
+  private static int collect(View view, int[] ids, View[] views, int remaining) {
+    int id = view.getId();
+    if (id != View.NO_ID) {
+      int index = Arrays.binarySearch(ids, id);
+      if (index >= 0 && views[index] == null) {
+        views[index] = view;
+        remaining--;
+      }
+    }
+    if (view instanceof ViewGroup) {
+      ViewGroup group = (ViewGroup) view;
+      for (int i = 0, count = group.getChildCount(); i < count && remaining > 0; i++) {
+        remaining = collect(group.getChildAt(i), ids, views, remaining);
+      }
+    }
+    return remaining;
+  }
+
+  public @Nullable View findView(@IdRes int id) {
+    int index = Arrays.binarySearch(ids, id);
+    return index >= 0 ? views[index] : null;
+  }
+
+  public <T> T findOptionalViewAsType(@IdRes int id, String who, Class<T> cls) {
+    View view = findView(id);
+    return Utils.castView(view, id, who, cls);
+  }
+
+  public View findRequiredView(@IdRes int id, String who) {
+    View view = findView(id);
+    if (view != null) {
+      return view;
+    }
+    throw Utils.missingView(source, id, who);
+  }
+
+  public <T> T findRequiredViewAsType(@IdRes int id, String who, Class<T> cls) {
+    View view = findRequiredView(id, who);
+    return Utils.castView(view, id, who, cls);
+  }
+}
@@ -25,13 +25,16 @@ public final class BindArrayTest {
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -41,7 +44,7 @@ public final class BindArrayTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -62,6 +65,84 @@ public final class BindArrayTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void cachedArrays() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindArray;\n"
+        + "public class Test {\n"
+        + "  @BindArray(value = 1, cached = true) String[] one;\n"
+        + "  @BindArray(value = 2, cached = true) int[] two;\n"
+        + "  @BindArray(value = 3, cached = true) CharSequence[] three;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.ResourceCache;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.one = ResourceCache.getStringArray(res, 1);\n"
+        + "    target.two = ResourceCache.getIntArray(res, 2);\n"
+        + "    target.three = ResourceCache.getTextArray(res, 3);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void cachedTypedArrayFails() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.content.res.TypedArray;\n"
+        + "import butterknife.BindArray;\n"
+        + "public class Test {\n"
+        + "  @BindArray(value = 1, cached = true) TypedArray one;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining(
+            "@BindArray cached is not supported for 'android.content.res.TypedArray' fields. "
+                + "(test.Test.one)")
+        .in(source).onLine(5);
+  }
+
   @Test public void typeMustBeSupported() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
@@ -23,13 +23,16 @@ public final class BindColorTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -39,7 +42,7 @@ public final class BindColorTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = context.getColor(1);\n"
@@ -74,13 +77,16 @@ public final class BindColorTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -90,7 +96,7 @@ public final class BindColorTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = context.getColorStateList(1);\n"
@@ -110,6 +116,59 @@ public final class BindColorTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void cachedIntSdk23() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindColor;\n"
+        + "public class Test {\n"
+        + "  @BindColor(value = 1, cached = true) int one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.ResourceCache;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    target.one = ResourceCache.getColor(context, 1);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.minSdk=23")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void typeMustBeIntOrColorStateList() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
@@ -9,6 +9,135 @@ import static com.google.common.truth.Truth.assertAbout;
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
 
 public final class BindDimenTest {
+  @Test public void lookupsShareTypedValueAndDedupe() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindColor;\n"
+        + "import butterknife.BindDimen;\n"
+        + "import butterknife.BindString;\n"
+        + "public class Test {\n"
+        + "  @BindString(4) String title;\n"
+        + "  @BindDimen(1) int width;\n"
+        + "  @BindDimen(1) int height;\n"
+        + "  @BindDimen(1) float exactWidth;\n"
+        + "  @BindColor(2) int color;\n"
+        + "  @BindString(4) String label;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.util.TypedValue;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    TypedValue value = new TypedValue();\n"
+        + "    target.color = Utils.getColor(context, 2, value);\n"
+        + "    target.width = Utils.getDimensionPixelSize(res, 1, value);\n"
+        + "    target.height = target.width;\n"
+        + "    target.exactWidth = Utils.getDimension(res, 1, value);\n"
+        + "    target.title = res.getString(4);\n"
+        + "    target.label = target.title;\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void cachedSkipsTypedValue() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindDimen;\n"
+        + "import butterknife.BindString;\n"
+        + "public class Test {\n"
+        + "  @BindDimen(1) int one;\n"
+        + "  @BindDimen(value = 2, cached = true) float two;\n"
+        + "  @BindString(value = 3, cached = true) String three;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.ResourceCache;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.one = res.getDimensionPixelSize(1);\n"
+        + "    target.two = ResourceCache.getDimension(res, 2);\n"
+        + "    target.three = ResourceCache.getString(res, 3);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void typeMustBeIntOrFloat() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
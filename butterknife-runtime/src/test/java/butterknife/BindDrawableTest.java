@@ -24,13 +24,16 @@ public final class BindDrawableTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -40,7 +43,7 @@ public final class BindDrawableTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = context.getDrawable(1);\n"
@@ -75,14 +78,17 @@ public final class BindDrawableTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -92,7 +98,7 @@ public final class BindDrawableTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    target.one = Utils.getTintedDrawable(context, 1, 2);\n"
@@ -112,6 +118,119 @@ public final class BindDrawableTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void tintedLookupsShareTypedValue() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.graphics.drawable.Drawable;\n"
+        + "import butterknife.BindDrawable;\n"
+        + "import butterknife.BindFloat;\n"
+        + "public class Test {\n"
+        + "  @BindDrawable(value = 1, tint = 2) Drawable one;\n"
+        + "  @BindFloat(3) float two;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.util.TypedValue;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    TypedValue value = new TypedValue();\n"
+        + "    target.one = Utils.getTintedDrawable(context, 1, 2, value);\n"
+        + "    target.two = Utils.getFloat(context, 3, value);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void cachedWithTint() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.graphics.drawable.Drawable;\n"
+        + "import butterknife.BindDrawable;\n"
+        + "public class Test {\n"
+        + "  @BindDrawable(value = 1, tint = 2, cached = true) Drawable one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.ResourceCache;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    target.one = ResourceCache.getDrawable(context, 1, 2);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void typeMustBeDrawable() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
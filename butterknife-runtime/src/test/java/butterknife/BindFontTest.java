@@ -25,13 +25,16 @@ public class BindFontTest {
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -41,7 +44,7 @@ public class BindFontTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -79,13 +82,16 @@ public class BindFontTest {
         + "import android.content.res.Resources;\n"
         + "import android.graphics.Typeface;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -95,7 +101,7 @@ public class BindFontTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -116,6 +122,61 @@ public class BindFontTest {
         .generatesSources(bindingSource);
   }
 
+  @Test public void cachedStyleSdk26() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.graphics.Typeface;\n"
+        + "import butterknife.BindFont;\n"
+        + "public class Test {\n"
+        + "  @BindFont(value = 1, style = Typeface.BOLD, cached = true) Typeface one;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.graphics.Typeface;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.ResourceCache;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  /**\n"
+        + "   * @deprecated Use {@link #Test_ViewBinding(Test, Context)} for direct creation.\n"
+        + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
+        + "   */\n"
+        + "  @Deprecated\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    this(target, source.getContext());\n"
+        + "  }\n"
+        + "  @AnyThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, Context context) {\n"
+        + "    target.one = Typeface.create(ResourceCache.getFont(context, 1), Typeface.BOLD);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.minSdk=26")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
   @Test public void typeMustBeTypeface() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
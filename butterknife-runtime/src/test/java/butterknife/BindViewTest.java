@@ -13,6 +13,179 @@ import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
 import static java.util.Arrays.asList;
 
 public class BindViewTest {
+  @Test public void bindingViewsSinglePass() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.Nullable;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.BindViews;\n"
+        + "import butterknife.OnClick;\n"
+        + "import java.util.List;\n"
+        + "public class Test {\n"
+        + "    @BindView(1) View one;\n"
+        + "    @BindView(2) TextView two;\n"
+        + "    @Nullable @BindView(3) View three;\n"
+        + "    @BindViews({2, 4}) List<View> views;\n"
+        + "    @OnClick(1) void doStuff() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import butterknife.internal.ViewTable;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    ViewTable views = ViewTable.find(source, 1, 2, 3, 4);\n"
+        + "    view = views.findRequiredView(1, \"field 'one' and method 'doStuff'\");\n"
+        + "    target.one = view;\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.doStuff();\n"
+        + "      }\n"
+        + "    });\n"
+        + "    target.two = views.findRequiredViewAsType(2, \"field 'two'\", TextView.class);\n"
+        + "    target.three = views.findView(3);\n"
+        + "    target.views = Utils.listFilteringNull(\n"
+        + "        views.findRequiredView(2, \"field 'views'\"),\n"
+        + "        views.findRequiredView(4, \"field 'views'\"));\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "    target.two = null;\n"
+        + "    target.three = null;\n"
+        + "    target.views = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.singlePassFind=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void bindingLazyView() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.Nullable;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.LazyView;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Test {\n"
+        + "    @BindView(1) LazyView<TextView> one;\n"
+        + "    @Nullable @BindView(2) LazyView<View> two;\n"
+        + "    @BindView(3) LazyView<View> three;\n"
+        + "    @OnClick(3) void doStuff() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import android.widget.TextView;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.LazyView;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
+        + "  private Test target;\n"
+        + "  private View view3;\n"
+        + "  @UiThread\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    target.one = LazyView.required(source, 1, \"field 'one'\", TextView.class);\n"
+        + "    target.two = LazyView.optional(source, 2, \"field 'two'\", View.class);\n"
+        + "    view = Utils.findRequiredView(source, 3, \"method 'doStuff'\");\n"
+        + "    target.three = LazyView.required(source, 3, \"field 'three'\", View.class);\n"
+        + "    view3 = view;\n"
+        + "    view.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        target.doStuff();\n"
+        + "      }\n"
+        + "    });\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "    target.two = null;\n"
+        + "    target.three = null;\n"
+        + "    view3.setOnClickListener(null);\n"
+        + "    view3 = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void failsIfLazyViewHasNoGenericComponent() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.LazyView;\n"
+        + "public class Test {\n"
+        + "    @BindView(1) LazyView thing;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .processedWith(new ButterKnifeProcessor())
+        .failsToCompile()
+        .withErrorContaining("@BindView LazyView must have a generic component. (test.Test.thing)")
+        .in(source)
+        .onLine(5);
+  }
+
   @Test public void bindingViewNonDebuggable() {
     JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
         + "package test;\n"
@@ -29,9 +202,12 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -74,9 +250,12 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -152,10 +331,13 @@ public class BindViewTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public final class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -204,10 +386,13 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Base_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Base_ViewBinding((Base) target, source));\n"
         + "  private Base target;\n"
         + "  @UiThread\n"
         + "  public Base_ViewBinding(Base target, View source) {\n"
@@ -229,10 +414,13 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public final class Test_ViewBinding extends Base_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -275,10 +463,13 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -321,10 +512,13 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -368,10 +562,13 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -417,11 +614,14 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -478,11 +678,14 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -555,9 +758,12 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -614,10 +820,13 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -639,10 +848,13 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new TestOne_ViewBinding((TestOne) target, source));\n"
         + "  private TestOne target;\n"
         + "  @UiThread\n"
         + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
@@ -700,10 +912,13 @@ public class BindViewTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -725,10 +940,13 @@ public class BindViewTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class TestOne_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new TestOne_ViewBinding((TestOne) target, source));\n"
         + "  private TestOne target;\n"
         + "  @UiThread\n"
         + "  public TestOne_ViewBinding(TestOne target, View source) {\n"
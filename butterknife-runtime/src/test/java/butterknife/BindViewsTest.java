@@ -29,10 +29,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -80,10 +83,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -128,10 +134,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -177,10 +186,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -262,10 +274,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -311,10 +326,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -363,10 +381,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -518,10 +539,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(2, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
@@ -566,10 +590,13 @@ public class BindViewsTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target, View source) {\n"
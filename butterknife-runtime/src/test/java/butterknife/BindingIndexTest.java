@@ -0,0 +1,72 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.util.Arrays.asList;
+
+public class BindingIndexTest {
+  @Test public void indexListsEveryBinding() {
+    JavaFileObject baseSource = JavaFileObjects.forSourceString("test.Base", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Base {\n"
+        + "  @BindView(1) View one;\n"
+        + "}"
+    );
+
+    JavaFileObject testSource = JavaFileObjects.forSourceString("test.other.Test", ""
+        + "package test.other;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Test {\n"
+        + "  public static class Inner extends test.Base {\n"
+        + "    @OnClick(2) void doStuff() {}\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject indexSource = JavaFileObjects.forSourceString("test/TestIndex", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import butterknife.BindingIndex;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.Class;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.String;\n"
+        + "import test.other.Test$Inner_ViewBinding;\n"
+        + "public final class TestIndex implements BindingIndex {\n"
+        + "  @Override\n"
+        + "  public UnbinderFactory getBindingFactory(Class<?> targetClass) {\n"
+        + "    switch (targetClass.getName()) {\n"
+        + "      case \"test.Base\":\n"
+        + "        return Base_ViewBinding.FACTORY;\n"
+        + "      case \"test.other.Test$Inner\":\n"
+        + "        return Test$Inner_ViewBinding.FACTORY;\n"
+        + "      default:\n"
+        + "        return null;\n"
+        + "    }\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public String[] getTargetClassNames() {\n"
+        + "    return new String[] {\n"
+        + "        \"test.Base\",\n"
+        + "        \"test.other.Test$Inner\"\n"
+        + "    };\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources()).that(asList(baseSource, testSource))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.index=test.TestIndex")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(indexSource);
+  }
+}
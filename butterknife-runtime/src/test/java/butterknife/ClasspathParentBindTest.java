@@ -10,11 +10,32 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardJavaFileManager;
@@ -23,7 +44,9 @@ import javax.tools.ToolProvider;
 import butterknife.compiler.ButterKnifeProcessor;
 
 import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /** Tests binding generation when superclasses are from classpath.  */
@@ -61,10 +84,13 @@ public class ClasspathParentBindTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class SubClass_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new SubClass_ViewBinding((SubClass) target, source));\n"
         + "  private SubClass target;\n"
         + "  @UiThread\n"
         + "  public SubClass_ViewBinding(SubClass target, View source) {\n"
@@ -137,10 +163,13 @@ public class ClasspathParentBindTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class ToProcess_ViewBinding extends SubClassTest_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new ToProcess_ViewBinding((ToProcess) target, source));\n"
         + "  private ToProcess target;\n"
         + "  @UiThread\n"
         + "  public ToProcess_ViewBinding(ToProcess target, View source) {\n"
@@ -199,10 +228,12 @@ public class ClasspathParentBindTest {
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class SubClass_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new SubClass_ViewBinding((SubClass) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #SubClass_ViewBinding(SubClass, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -237,6 +268,156 @@ public class ClasspathParentBindTest {
     }
   }
 
+  @Test
+  public void siblingsShareParentInClasspath() throws IOException {
+    JavaFileObject baseClass = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View view;\n"
+        + "}"
+    );
+
+    JavaFileObject oneSource = JavaFileObjects.forSourceString("test.One", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class One extends Test {\n"
+        + "  @BindView(3) View view3;\n"
+        + "}"
+    );
+
+    JavaFileObject twoSource = JavaFileObjects.forSourceString("test.Two", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Two extends Test {\n"
+        + "  @BindView(3) View view3;\n"
+        + "}"
+    );
+
+    JavaFileObject oneBinding = JavaFileObjects.forSourceString("test/One_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class One_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new One_ViewBinding((One) target, source));\n"
+        + "  private One target;\n"
+        + "  @UiThread\n"
+        + "  public One_ViewBinding(One target, View source) {\n"
+        + "    super(target, source);\n"
+        + "    this.target = target;\n"
+        + "    target.view3 = Utils.findRequiredView(source, 3, \"field 'view3'\");\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void unbind() {\n"
+        + "    One target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.view3 = null;\n"
+        + "    super.unbind();\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject twoBinding = JavaFileObjects.forSourceString("test/Two_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Two_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Two_ViewBinding((Two) target, source));\n"
+        + "  private Two target;\n"
+        + "  @UiThread\n"
+        + "  public Two_ViewBinding(Two target, View source) {\n"
+        + "    super(target, source);\n"
+        + "    this.target = target;\n"
+        + "    target.view3 = Utils.findRequiredView(source, 3, \"field 'view3'\");\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void unbind() {\n"
+        + "    Two target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.view3 = null;\n"
+        + "    super.unbind();\n"
+        + "  }\n"
+        + "}"
+    );
+
+    File classesOut = tmp.newFolder("classes-output");
+    File sourcesOut = tmp.newFolder("sources-output");
+    compileSources(classesOut, sourcesOut, baseClass);
+
+    try (URLClassLoader compilationClasspath = new URLClassLoader(
+        new URL[]{classesOut.toURI().toURL()}, this.getClass().getClassLoader())) {
+      assertAbout(javaSources()).that(Arrays.asList(oneSource, twoSource))
+          .withCompilerOptions("-Xlint:-processing")
+          .withClasspathFrom(compilationClasspath)
+          .processedWith(new ButterKnifeProcessor())
+          .compilesWithoutWarnings()
+          .and()
+          .generatesSources(oneBinding, twoBinding);
+    }
+  }
+
+  @Test
+  public void siblingsScanSharedParentInClasspathOnce() throws IOException {
+    JavaFileObject baseClass = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View view;\n"
+        + "}"
+    );
+
+    JavaFileObject oneSource = JavaFileObjects.forSourceString("test.One", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class One extends Test {\n"
+        + "  @BindView(3) View view3;\n"
+        + "}"
+    );
+
+    JavaFileObject twoSource = JavaFileObjects.forSourceString("test.Two", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Two extends Test {\n"
+        + "  @BindView(3) View view3;\n"
+        + "}"
+    );
+
+    File classesOut = tmp.newFolder("classes-output");
+    File sourcesOut = tmp.newFolder("sources-output");
+    compileSources(classesOut, sourcesOut, baseClass);
+
+    CountingProcessor processor = new CountingProcessor("test.Test");
+    try (URLClassLoader compilationClasspath = new URLClassLoader(
+        new URL[]{classesOut.toURI().toURL()}, this.getClass().getClassLoader())) {
+      assertAbout(javaSources()).that(Arrays.asList(oneSource, twoSource))
+          .withCompilerOptions("-Xlint:-processing")
+          .withClasspathFrom(compilationClasspath)
+          .processedWith(processor)
+          .compilesWithoutWarnings();
+    }
+    assertThat(processor.scans.get()).isEqualTo(1);
+  }
+
   private void compileSources(File classesOut, File sourcesOut, JavaFileObject... sources) {
     JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
     try {
@@ -255,4 +436,143 @@ public class ClasspathParentBindTest {
       throw new UncheckedIOException(e);
     }
   }
+
+  /**
+   * Runs the processor with type utilities which hand out {@code typeName} as a wrapper counting
+   * how often its members are listed.
+   */
+  private static final class CountingProcessor implements Processor {
+    final Processor delegate = new ButterKnifeProcessor();
+    final AtomicInteger scans = new AtomicInteger();
+    private final String typeName;
+
+    CountingProcessor(String typeName) {
+      this.typeName = typeName;
+    }
+
+    @Override public Set<String> getSupportedOptions() {
+      return delegate.getSupportedOptions();
+    }
+
+    @Override public Set<String> getSupportedAnnotationTypes() {
+      return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+      return delegate.getSupportedSourceVersion();
+    }
+
+    @Override public void init(ProcessingEnvironment processingEnv) {
+      delegate.init(new CountingEnvironment(processingEnv, wrap(Types.class,
+          processingEnv.getTypeUtils(), this::countScans), wrap(Elements.class,
+          processingEnv.getElementUtils(), (method, result) -> result)));
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations,
+        RoundEnvironment roundEnv) {
+      return delegate.process(annotations, roundEnv);
+    }
+
+    @Override public Iterable<? extends Completion> getCompletions(Element element,
+        AnnotationMirror annotation, ExecutableElement member, String userText) {
+      return delegate.getCompletions(element, annotation, member, userText);
+    }
+
+    private Object countScans(Method method, Object result) {
+      if (result instanceof TypeElement
+          && ((TypeElement) result).getQualifiedName().contentEquals(typeName)) {
+        return wrap(TypeElement.class, result, (typeMethod, typeResult) -> {
+          if (typeMethod.getName().equals("getEnclosedElements")) {
+            scans.incrementAndGet();
+          }
+          return typeResult;
+        });
+      }
+      return result;
+    }
+  }
+
+  /** Stands in for Gradle's environment, which keeps javac's one in a {@code delegate} field. */
+  private static final class CountingEnvironment implements ProcessingEnvironment {
+    private final ProcessingEnvironment delegate;
+    private final Types types;
+    private final Elements elements;
+
+    CountingEnvironment(ProcessingEnvironment delegate, Types types, Elements elements) {
+      this.delegate = delegate;
+      this.types = types;
+      this.elements = elements;
+    }
+
+    @Override public Map<String, String> getOptions() {
+      return delegate.getOptions();
+    }
+
+    @Override public Messager getMessager() {
+      return delegate.getMessager();
+    }
+
+    @Override public Filer getFiler() {
+      return delegate.getFiler();
+    }
+
+    @Override public Elements getElementUtils() {
+      return elements;
+    }
+
+    @Override public Types getTypeUtils() {
+      return types;
+    }
+
+    @Override public SourceVersion getSourceVersion() {
+      return delegate.getSourceVersion();
+    }
+
+    @Override public Locale getLocale() {
+      return delegate.getLocale();
+    }
+  }
+
+  /**
+   * Returns a {@code type} forwarding to {@code delegate} which passes each result through
+   * {@code results}. Wrappers are unwrapped when passed back in, and equal to what they wrap.
+   */
+  private static <T> T wrap(Class<T> type, Object delegate,
+      BiFunction<Method, Object, Object> results) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+        new Forwarding(delegate, results)));
+  }
+
+  private static final class Forwarding implements InvocationHandler {
+    final Object delegate;
+    private final BiFunction<Method, Object, Object> results;
+
+    Forwarding(Object delegate, BiFunction<Method, Object, Object> results) {
+      this.delegate = delegate;
+      this.results = results;
+    }
+
+    @Override public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (args != null) {
+        for (int i = 0; i < args.length; i++) {
+          args[i] = unwrap(args[i]);
+        }
+      }
+      if (method.getName().equals("equals") && args != null && args.length == 1) {
+        return delegate.equals(args[0]);
+      }
+      try {
+        return results.apply(method, method.invoke(delegate, args));
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+
+    private static Object unwrap(Object object) {
+      return object != null && Proxy.isProxyClass(object.getClass())
+          && Proxy.getInvocationHandler(object) instanceof Forwarding
+          ? ((Forwarding) Proxy.getInvocationHandler(object)).delegate
+          : object;
+    }
+  }
 }
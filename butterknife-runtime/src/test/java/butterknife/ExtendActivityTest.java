@@ -26,13 +26,16 @@ public class ExtendActivityTest {
         + "import android.content.Context;\n"
         + "import android.content.res.Resources;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "import java.lang.SuppressWarnings;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target) {\n"
         + "    this(target, target);\n"
@@ -46,7 +49,7 @@ public class ExtendActivityTest {
         + "  public Test_ViewBinding(Test target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  @SuppressWarnings(\"ResourceType\")\n"
         + "  public Test_ViewBinding(Test target, Context context) {\n"
         + "    Resources res = context.getResources();\n"
@@ -85,10 +88,13 @@ public class ExtendActivityTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  @UiThread\n"
         + "  public Test_ViewBinding(Test target) {\n"
@@ -0,0 +1,352 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import net.ltgt.gradle.incap.IncrementalAnnotationProcessorType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Processes a project the way Gradle does for an isolating processor: once in full, then again
+ * with only the changed types and their subclasses compiled against the first build's classes.
+ * The processor runs behind a wrapped {@link ProcessingEnvironment} like the one Gradle installs.
+ */
+public final class IncrementalProcessingTest {
+  private static final int TYPES = 100;
+
+  @Rule public TemporaryFolder tmp = new TemporaryFolder();
+
+  @Test public void declaresIsolatingWithoutIndex() throws IOException {
+    RecordingProcessor processor = compile(tmp.newFolder(), tmp.newFolder(), project());
+    assertThat(processor.getSupportedOptions())
+        .contains(IncrementalAnnotationProcessorType.ISOLATING.getProcessorOption());
+  }
+
+  @Test public void declaresAggregatingWithIndex() throws IOException {
+    RecordingProcessor processor = compile(tmp.newFolder(), tmp.newFolder(), project(),
+        "-Abutterknife.index=test.TestIndex");
+    assertThat(processor.getSupportedOptions())
+        .contains(IncrementalAnnotationProcessorType.AGGREGATING.getProcessorOption());
+  }
+
+  @Test public void everyBindingHasItsTargetAsOnlyOriginatingElement() throws IOException {
+    RecordingProcessor processor = compile(tmp.newFolder(), tmp.newFolder(), project());
+    assertThat(processor.originatingElements).hasSize(TYPES + 2);
+    for (Map.Entry<String, Set<String>> entry : processor.originatingElements.entrySet()) {
+      String target = entry.getKey().substring(0, entry.getKey().length() - "_ViewBinding".length());
+      assertWithMessage(entry.getKey()).that(entry.getValue()).containsExactly(target);
+    }
+  }
+
+  @Test public void changingOneTypeRegeneratesOnlyItsBinding() throws IOException {
+    assertIncremental(ImmutableMap.of("Type42", type(42, true)), "Type42");
+  }
+
+  @Test public void changingSubclassReadsParentFromClasspath() throws IOException {
+    assertIncremental(ImmutableMap.of("Child", child(true)), "Child");
+  }
+
+  @Test public void changingParentRegeneratesSubclassBinding() throws IOException {
+    // The parent no longer binds views, so the child binding calls a different super constructor.
+    assertIncremental(ImmutableMap.of("Parent", parent(true)), "Parent", "Child");
+  }
+
+  /**
+   * Builds the project in full, applies {@code changes} and processes only {@code recompiled}
+   * against the classes of the first build. Only their bindings may be regenerated, and the
+   * generated sources must match a full build of the changed project.
+   */
+  private void assertIncremental(Map<String, String> changes, String... recompiled)
+      throws IOException {
+    File classes = tmp.newFolder("classes");
+    File generated = tmp.newFolder("generated");
+    compile(classes, generated, project());
+
+    Map<String, String> changed = new LinkedHashMap<>(project());
+    changed.putAll(changes);
+
+    Map<String, String> sources = new LinkedHashMap<>();
+    Set<String> expected = new LinkedHashSet<>();
+    for (String type : recompiled) {
+      deleteOutputs(new File(classes, "test"), type);
+      deleteOutputs(new File(generated, "test"), type);
+      sources.put(type, changed.get(type));
+      expected.add("test." + type + "_ViewBinding");
+    }
+    RecordingProcessor processor = compile(classes, generated, sources);
+    assertThat(processor.originatingElements.keySet()).containsExactlyElementsIn(expected);
+
+    File fullGenerated = tmp.newFolder("full-generated");
+    compile(tmp.newFolder("full-classes"), fullGenerated, changed);
+    assertThat(read(generated)).containsExactlyEntriesIn(read(fullGenerated));
+  }
+
+  private static RecordingProcessor compile(File classes, File generated,
+      Map<String, String> sources, String... options) throws IOException {
+    List<JavaFileObject> files = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      files.add(JavaFileObjects.forSourceString("test." + source.getKey(), source.getValue()));
+    }
+    List<String> arguments = new ArrayList<>();
+    arguments.add("-classpath");
+    arguments.add(System.getProperty("java.class.path") + File.pathSeparator + classes);
+    arguments.add("-d");
+    arguments.add(classes.getPath());
+    arguments.add("-s");
+    arguments.add(generated.getPath());
+    arguments.add("-Xlint:-processing");
+    for (String option : options) {
+      arguments.add(option);
+    }
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    RecordingProcessor processor = new RecordingProcessor();
+    try (StandardJavaFileManager fileManager =
+             compiler.getStandardFileManager(diagnostics, Locale.getDefault(), UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(null, fileManager, diagnostics, arguments, null, files);
+      task.setProcessors(singletonList(processor));
+      boolean success = task.call();
+      assertWithMessage(diagnostics.getDiagnostics().toString()).that(success).isTrue();
+    }
+    return processor;
+  }
+
+  /** Deletes what Gradle considers stale for a changed type: its classes and its binding. */
+  private static void deleteOutputs(File directory, String type) {
+    File[] files = directory.listFiles();
+    if (files == null) return;
+    for (File file : files) {
+      String name = file.getName();
+      if (name.startsWith(type + ".") || name.startsWith(type + "$")
+          || name.startsWith(type + "_ViewBinding.") || name.startsWith(type + "_ViewBinding$")) {
+        assertThat(file.delete()).isTrue();
+      }
+    }
+  }
+
+  private static Map<String, String> read(File directory) throws IOException {
+    Path root = directory.toPath();
+    try (Stream<Path> paths = Files.walk(root)) {
+      return paths.filter(Files::isRegularFile).collect(toMap(
+          path -> root.relativize(path).toString(),
+          path -> {
+            try {
+              return new String(Files.readAllBytes(path), UTF_8);
+            } catch (IOException e) {
+              throw new AssertionError(e);
+            }
+          }));
+    }
+  }
+
+  private static Map<String, String> project() {
+    Map<String, String> sources = new LinkedHashMap<>();
+    StringBuilder r = new StringBuilder()
+        .append("package test;\n")
+        .append("public final class R {\n")
+        .append("  public static final class id {\n");
+    for (int i = 0; i < 10; i++) {
+      r.append("    public static final int view").append(i).append(" = ")
+          .append(0x7f010000 + i).append(";\n");
+    }
+    sources.put("R", r.append("  }\n}\n").toString());
+    sources.put("Parent", parent(false));
+    sources.put("Child", child(false));
+    for (int i = 0; i < TYPES; i++) {
+      sources.put("Type" + i, type(i, false));
+    }
+    return sources;
+  }
+
+  private static String parent(boolean changed) {
+    return ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindString;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Parent {\n"
+        + (changed
+            ? "  @BindString(1) String parentString;\n"
+            : "  @BindView(R.id.view0) View parentView;\n")
+        + "}";
+  }
+
+  private static String child(boolean changed) {
+    return ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Child extends Parent {\n"
+        + "  @BindView(R.id.view1) View childView;\n"
+        + (changed ? "  @BindView(R.id.view3) View otherView;\n" : "")
+        + "  @OnClick(R.id.view2) void onClick() {}\n"
+        + "}";
+  }
+
+  private static String type(int index, boolean changed) {
+    return ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindString;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Type" + index + " {\n"
+        + "  @BindView(R.id.view" + index % 10 + ") View view;\n"
+        + "  @BindString(" + index + ") String string;\n"
+        + (changed ? "  @BindView(R.id.view9) View otherView;\n" : "")
+        + "}";
+  }
+
+  /** Records the originating elements of every generated source file. */
+  private static final class RecordingProcessor implements Processor {
+    final Processor delegate = new ButterKnifeProcessor();
+    final Map<String, Set<String>> originatingElements = new LinkedHashMap<>();
+
+    @Override public Set<String> getSupportedOptions() {
+      return delegate.getSupportedOptions();
+    }
+
+    @Override public Set<String> getSupportedAnnotationTypes() {
+      return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+      return delegate.getSupportedSourceVersion();
+    }
+
+    @Override public void init(ProcessingEnvironment processingEnv) {
+      delegate.init(new WrappedEnvironment(processingEnv, new RecordingFiler(
+          processingEnv.getFiler(), originatingElements)));
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations,
+        RoundEnvironment roundEnv) {
+      return delegate.process(annotations, roundEnv);
+    }
+
+    @Override public Iterable<? extends Completion> getCompletions(Element element,
+        AnnotationMirror annotation, ExecutableElement member, String userText) {
+      return delegate.getCompletions(element, annotation, member, userText);
+    }
+  }
+
+  /** Stands in for Gradle's environment, which keeps javac's one in a {@code delegate} field. */
+  private static final class WrappedEnvironment implements ProcessingEnvironment {
+    private final ProcessingEnvironment delegate;
+    private final Filer filer;
+
+    WrappedEnvironment(ProcessingEnvironment delegate, Filer filer) {
+      this.delegate = delegate;
+      this.filer = filer;
+    }
+
+    @Override public Map<String, String> getOptions() {
+      return delegate.getOptions();
+    }
+
+    @Override public Messager getMessager() {
+      return delegate.getMessager();
+    }
+
+    @Override public Filer getFiler() {
+      return filer;
+    }
+
+    @Override public Elements getElementUtils() {
+      return delegate.getElementUtils();
+    }
+
+    @Override public Types getTypeUtils() {
+      return delegate.getTypeUtils();
+    }
+
+    @Override public SourceVersion getSourceVersion() {
+      return delegate.getSourceVersion();
+    }
+
+    @Override public Locale getLocale() {
+      return delegate.getLocale();
+    }
+  }
+
+  private static final class RecordingFiler implements Filer {
+    private final Filer delegate;
+    private final Map<String, Set<String>> originatingElements;
+
+    RecordingFiler(Filer delegate, Map<String, Set<String>> originatingElements) {
+      this.delegate = delegate;
+      this.originatingElements = originatingElements;
+    }
+
+    @Override public JavaFileObject createSourceFile(CharSequence name,
+        Element... originatingElements) throws IOException {
+      Set<String> names = new LinkedHashSet<>();
+      for (Element element : originatingElements) {
+        names.add(element instanceof TypeElement
+            ? ((TypeElement) element).getQualifiedName().toString()
+            : element.toString());
+      }
+      this.originatingElements.put(name.toString(), ImmutableSet.copyOf(names));
+      return delegate.createSourceFile(name, originatingElements);
+    }
+
+    @Override public JavaFileObject createClassFile(CharSequence name,
+        Element... originatingElements) throws IOException {
+      throw new AssertionError("Unexpected class file " + name);
+    }
+
+    @Override public FileObject createResource(JavaFileManager.Location location,
+        CharSequence pkg, CharSequence relativeName, Element... originatingElements)
+        throws IOException {
+      throw new AssertionError("Unexpected resource " + relativeName);
+    }
+
+    @Override public FileObject getResource(JavaFileManager.Location location, CharSequence pkg,
+        CharSequence relativeName) throws IOException {
+      throw new AssertionError("Unexpected read of resource " + relativeName);
+    }
+  }
+}
@@ -26,10 +26,14 @@ public class OnItemSelectedTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.EmptyOnItemSelectedListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -38,14 +42,11 @@ public class OnItemSelectedTest {
         + "    View view;\n"
         + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff'\");\n"
         + "    view1 = view;\n"
-        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {\n"
+        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new EmptyOnItemSelectedListener() {\n"
         + "      @Override\n"
         + "      public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {\n"
         + "        target.doStuff();\n"
         + "      }\n"
-        + "      @Override\n"
-        + "      public void onNothingSelected(AdapterView<?> p0) {\n"
-        + "      }\n"
         + "    });\n"
         + "  }\n"
         + "  @Override\n"
@@ -85,10 +86,14 @@ public class OnItemSelectedTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.EmptyOnItemSelectedListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -97,10 +102,7 @@ public class OnItemSelectedTest {
         + "    View view;\n"
         + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff'\");\n"
         + "    view1 = view;\n"
-        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {\n"
-        + "      @Override\n"
-        + "      public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {\n"
-        + "      }\n"
+        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new EmptyOnItemSelectedListener() {\n"
         + "      @Override\n"
         + "      public void onNothingSelected(AdapterView<?> p0) {\n"
         + "        target.doStuff();\n"
@@ -146,10 +148,14 @@ public class OnItemSelectedTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.EmptyOnItemSelectedListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -158,7 +164,7 @@ public class OnItemSelectedTest {
         + "    View view;\n"
         + "    view = Utils.findRequiredView(source, 1, \"method 'onItemSelected' and method 'onNothingSelected'\");\n"
         + "    view1 = view;\n"
-        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {\n"
+        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new EmptyOnItemSelectedListener() {\n"
         + "      @Override\n"
         + "      public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {\n"
         + "        target.onItemSelected();\n"
@@ -208,10 +214,14 @@ public class OnItemSelectedTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.EmptyOnItemSelectedListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  private View view2;\n"
@@ -222,7 +232,7 @@ public class OnItemSelectedTest {
         + "    View view;\n"
         + "    view = Utils.findRequiredView(source, 1, \"method 'onItemSelected' and method 'onNothingSelected'\");\n"
         + "    view1 = view;\n"
-        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {\n"
+        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new EmptyOnItemSelectedListener() {\n"
         + "      @Override\n"
         + "      public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {\n"
         + "        target.onItemSelected();\n"
@@ -234,21 +244,15 @@ public class OnItemSelectedTest {
         + "    });\n"
         + "    view = Utils.findRequiredView(source, 2, \"method 'onItemSelected'\");\n"
         + "    view2 = view;\n"
-        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {\n"
+        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new EmptyOnItemSelectedListener() {\n"
         + "      @Override\n"
         + "      public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {\n"
         + "        target.onItemSelected();\n"
         + "      }\n"
-        + "      @Override\n"
-        + "      public void onNothingSelected(AdapterView<?> p0) {\n"
-        + "      }\n"
         + "    });\n"
         + "    view = Utils.findRequiredView(source, 3, \"method 'onNothingSelected'\");\n"
         + "    view3 = view;\n"
-        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {\n"
-        + "      @Override\n"
-        + "      public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {\n"
-        + "      }\n"
+        + "    ((AdapterView<?>) view).setOnItemSelectedListener(new EmptyOnItemSelectedListener() {\n"
         + "      @Override\n"
         + "      public void onNothingSelected(AdapterView<?> p0) {\n"
         + "        target.onNothingSelected();\n"
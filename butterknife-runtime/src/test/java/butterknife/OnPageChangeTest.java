@@ -27,10 +27,13 @@ public class OnPageChangeTest {
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.viewpager.widget.ViewPager;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  private ViewPager.OnPageChangeListener view1OnPageChangeListener;\n"
@@ -40,17 +43,11 @@ public class OnPageChangeTest {
         + "    View view;\n"
         + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff'\");\n"
         + "    view1 = view;\n"
-        + "    view1OnPageChangeListener = new ViewPager.OnPageChangeListener() {\n"
+        + "    view1OnPageChangeListener = new ViewPager.SimpleOnPageChangeListener() {\n"
         + "      @Override\n"
         + "      public void onPageSelected(int p0) {\n"
         + "        target.doStuff();\n"
         + "      }\n"
-        + "      @Override\n"
-        + "      public void onPageScrolled(int p0, float p1, int p2) {\n"
-        + "      }\n"
-        + "      @Override\n"
-        + "      public void onPageScrollStateChanged(int p0) {\n"
-        + "      }\n"
         + "    };\n"
         + "    ((ViewPager) view).addOnPageChangeListener(view1OnPageChangeListener);\n"
         + "  }\n"
@@ -20,18 +20,21 @@ public class OnTextChangedTest {
 
     JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
         + "package test;\n"
-        + "import android.text.Editable;\n"
         + "import android.text.TextWatcher;\n"
         + "import android.view.View;\n"
         + "import android.widget.TextView;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.EmptyTextWatcher;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.CharSequence;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  private TextWatcher view1TextWatcher;\n"
@@ -41,17 +44,11 @@ public class OnTextChangedTest {
         + "    View view;\n"
         + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff'\");\n"
         + "    view1 = view;\n"
-        + "    view1TextWatcher = new TextWatcher() {\n"
+        + "    view1TextWatcher = new EmptyTextWatcher() {\n"
         + "      @Override\n"
         + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
         + "        target.doStuff();\n"
         + "      }\n"
-        + "      @Override\n"
-        + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
-        + "      }\n"
-        + "      @Override\n"
-        + "      public void afterTextChanged(Editable p0) {\n"
-        + "      }\n"
         + "    };\n"
         + "    ((TextView) view).addTextChangedListener(view1TextWatcher);\n"
         + "  }\n"
@@ -86,18 +83,21 @@ public class OnTextChangedTest {
 
     JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
             + "package test;\n"
-            + "import android.text.Editable;\n"
             + "import android.text.TextWatcher;\n"
             + "import android.view.View;\n"
             + "import android.widget.TextView;\n"
             + "import androidx.annotation.CallSuper;\n"
             + "import androidx.annotation.UiThread;\n"
             + "import butterknife.Unbinder;\n"
+            + "import butterknife.UnbinderFactory;\n"
+            + "import butterknife.internal.CountedUnbinderFactory;\n"
+            + "import butterknife.internal.EmptyTextWatcher;\n"
             + "import butterknife.internal.Utils;\n"
             + "import java.lang.CharSequence;\n"
             + "import java.lang.IllegalStateException;\n"
             + "import java.lang.Override;\n"
             + "public class Test_ViewBinding implements Unbinder {\n"
+            + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
             + "  private Test target;\n"
             + "  private View view1;\n"
             + "  private TextWatcher view1TextWatcher;\n"
@@ -107,17 +107,11 @@ public class OnTextChangedTest {
             + "    View view;\n"
             + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff'\");\n"
             + "    view1 = view;\n"
-            + "    view1TextWatcher = new TextWatcher() {\n"
+            + "    view1TextWatcher = new EmptyTextWatcher() {\n"
             + "      @Override\n"
             + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
             + "        target.doStuff(p0);\n"
             + "      }\n"
-            + "      @Override\n"
-            + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
-            + "      }\n"
-            + "      @Override\n"
-            + "      public void afterTextChanged(Editable p0) {\n"
-            + "      }\n"
             + "    };\n"
             + "    ((TextView) view).addTextChangedListener(view1TextWatcher);\n"
             + "  }\n"
@@ -152,18 +146,21 @@ public class OnTextChangedTest {
 
     JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
             + "package test;\n"
-            + "import android.text.Editable;\n"
             + "import android.text.TextWatcher;\n"
             + "import android.view.View;\n"
             + "import android.widget.TextView;\n"
             + "import androidx.annotation.CallSuper;\n"
             + "import androidx.annotation.UiThread;\n"
             + "import butterknife.Unbinder;\n"
+            + "import butterknife.UnbinderFactory;\n"
+            + "import butterknife.internal.CountedUnbinderFactory;\n"
+            + "import butterknife.internal.EmptyTextWatcher;\n"
             + "import butterknife.internal.Utils;\n"
             + "import java.lang.CharSequence;\n"
             + "import java.lang.IllegalStateException;\n"
             + "import java.lang.Override;\n"
             + "public class Test_ViewBinding implements Unbinder {\n"
+            + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
             + "  private Test target;\n"
             + "  private View view1;\n"
             + "  private TextWatcher view1TextWatcher;\n"
@@ -173,17 +170,11 @@ public class OnTextChangedTest {
             + "    View view;\n"
             + "    view = Utils.findRequiredView(source, 1, \"method 'doStuff'\");\n"
             + "    view1 = view;\n"
-            + "    view1TextWatcher = new TextWatcher() {\n"
+            + "    view1TextWatcher = new EmptyTextWatcher() {\n"
             + "      @Override\n"
             + "      public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
             + "        target.doStuff(p0, p1, p2, p3);\n"
             + "      }\n"
-            + "      @Override\n"
-            + "      public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {\n"
-            + "      }\n"
-            + "      @Override\n"
-            + "      public void afterTextChanged(Editable p0) {\n"
-            + "      }\n"
             + "    };\n"
             + "    ((TextView) view).addTextChangedListener(view1TextWatcher);\n"
             + "  }\n"
@@ -0,0 +1,308 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.util.Arrays.asList;
+
+public class ParallelismTest {
+  @Test public void bindingsBrewedOnWorkerThreads() {
+    JavaFileObject oneSource = JavaFileObjects.forSourceString("test.One", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class One {\n"
+        + "  @BindView(1) View view;\n"
+        + "}"
+    );
+
+    JavaFileObject twoSource = JavaFileObjects.forSourceString("test.Two", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Two {\n"
+        + "  @BindView(2) View view;\n"
+        + "}"
+    );
+
+    JavaFileObject oneBinding = JavaFileObjects.forSourceString("test/One_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class One_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new One_ViewBinding((One) target, source));\n"
+        + "  private One target;\n"
+        + "  @UiThread\n"
+        + "  public One_ViewBinding(One target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    target.view = Utils.findRequiredView(source, 1, \"field 'view'\");\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    One target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.view = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    JavaFileObject twoBinding = JavaFileObjects.forSourceString("test/Two_ViewBinding", ""
+        + "// Generated code from Butter Knife. Do not modify!\n"
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Override;\n"
+        + "public class Two_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Two_ViewBinding((Two) target, source));\n"
+        + "  private Two target;\n"
+        + "  @UiThread\n"
+        + "  public Two_ViewBinding(Two target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    target.view = Utils.findRequiredView(source, 2, \"field 'view'\");\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Two target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.view = null;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    ThreadRecordingProcessor processor = new ThreadRecordingProcessor();
+    assertAbout(javaSources()).that(asList(oneSource, twoSource))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.parallelism=2")
+        .processedWith(processor)
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(oneBinding, twoBinding);
+    assertThat(processor.startedThreads).isAtLeast(1L);
+    assertThat(processor.writingThreads).containsExactly(processor.processingThread);
+  }
+
+  @Test public void bindingsBrewedSeriallyByDefault() {
+    JavaFileObject oneSource = JavaFileObjects.forSourceString("test.One", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class One {\n"
+        + "  @BindView(1) View view;\n"
+        + "}"
+    );
+
+    JavaFileObject twoSource = JavaFileObjects.forSourceString("test.Two", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Two {\n"
+        + "  @BindView(2) View view;\n"
+        + "}"
+    );
+
+    ThreadRecordingProcessor processor = new ThreadRecordingProcessor();
+    assertAbout(javaSources()).that(asList(oneSource, twoSource))
+        .withCompilerOptions("-Xlint:-processing")
+        .processedWith(processor)
+        .compilesWithoutWarnings();
+    assertThat(processor.startedThreads).isEqualTo(0L);
+    assertThat(processor.writingThreads).containsExactly(processor.processingThread);
+  }
+
+  @Test public void invalidParallelismWarns() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View view;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.parallelism=0")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutError()
+        .withWarningContaining("Supplied parallelism option '0' must be a positive integer.");
+  }
+
+  @Test public void unparsableParallelismWarns() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindView;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View view;\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.parallelism=many")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutError()
+        .withWarningContaining("Unable to parse supplied parallelism option 'many'.");
+  }
+
+  /**
+   * Records how many threads were started while the processor ran and which threads created the
+   * generated source files.
+   */
+  private static final class ThreadRecordingProcessor implements Processor {
+    final Processor delegate = new ButterKnifeProcessor();
+    final Set<Thread> writingThreads = new LinkedHashSet<>();
+    Thread processingThread;
+    long startedThreads;
+
+    @Override public Set<String> getSupportedOptions() {
+      return delegate.getSupportedOptions();
+    }
+
+    @Override public Set<String> getSupportedAnnotationTypes() {
+      return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+      return delegate.getSupportedSourceVersion();
+    }
+
+    @Override public void init(ProcessingEnvironment processingEnv) {
+      delegate.init(new WrappedEnvironment(processingEnv,
+          new RecordingFiler(processingEnv.getFiler(), writingThreads)));
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations,
+        RoundEnvironment roundEnv) {
+      processingThread = Thread.currentThread();
+      ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      long before = threads.getTotalStartedThreadCount();
+      try {
+        return delegate.process(annotations, roundEnv);
+      } finally {
+        startedThreads += threads.getTotalStartedThreadCount() - before;
+      }
+    }
+
+    @Override public Iterable<? extends Completion> getCompletions(Element element,
+        AnnotationMirror annotation, ExecutableElement member, String userText) {
+      return delegate.getCompletions(element, annotation, member, userText);
+    }
+  }
+
+  /** Stands in for Gradle's environment, which keeps javac's one in a {@code delegate} field. */
+  private static final class WrappedEnvironment implements ProcessingEnvironment {
+    private final ProcessingEnvironment delegate;
+    private final Filer filer;
+
+    WrappedEnvironment(ProcessingEnvironment delegate, Filer filer) {
+      this.delegate = delegate;
+      this.filer = filer;
+    }
+
+    @Override public Map<String, String> getOptions() {
+      return delegate.getOptions();
+    }
+
+    @Override public Messager getMessager() {
+      return delegate.getMessager();
+    }
+
+    @Override public Filer getFiler() {
+      return filer;
+    }
+
+    @Override public Elements getElementUtils() {
+      return delegate.getElementUtils();
+    }
+
+    @Override public Types getTypeUtils() {
+      return delegate.getTypeUtils();
+    }
+
+    @Override public SourceVersion getSourceVersion() {
+      return delegate.getSourceVersion();
+    }
+
+    @Override public Locale getLocale() {
+      return delegate.getLocale();
+    }
+  }
+
+  private static final class RecordingFiler implements Filer {
+    private final Filer delegate;
+    private final Set<Thread> writingThreads;
+
+    RecordingFiler(Filer delegate, Set<Thread> writingThreads) {
+      this.delegate = delegate;
+      this.writingThreads = writingThreads;
+    }
+
+    @Override public JavaFileObject createSourceFile(CharSequence name,
+        Element... originatingElements) throws IOException {
+      synchronized (writingThreads) {
+        writingThreads.add(Thread.currentThread());
+      }
+      return delegate.createSourceFile(name, originatingElements);
+    }
+
+    @Override public JavaFileObject createClassFile(CharSequence name,
+        Element... originatingElements) throws IOException {
+      return delegate.createClassFile(name, originatingElements);
+    }
+
+    @Override public FileObject createResource(JavaFileManager.Location location,
+        CharSequence pkg, CharSequence relativeName, Element... originatingElements)
+        throws IOException {
+      return delegate.createResource(location, pkg, relativeName, originatingElements);
+    }
+
+    @Override public FileObject getResource(JavaFileManager.Location location, CharSequence pkg,
+        CharSequence relativeName) throws IOException {
+      return delegate.getResource(location, pkg, relativeName);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package butterknife;
+
+import butterknife.compiler.ButterKnifeProcessor;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertAbout;
+import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
+import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.util.Arrays.asList;
+
+public class RebindableTest {
+  @Test public void rebindSwapsListenerTarget() {
+    JavaFileObject source = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import android.view.View;\n"
+        + "import butterknife.BindString;\n"
+        + "import butterknife.BindView;\n"
+        + "import butterknife.BindViews;\n"
+        + "import butterknife.OnClick;\n"
+        + "import java.util.List;\n"
+        + "public class Test {\n"
+        + "  @BindView(1) View one;\n"
+        + "  @BindViews({2, 3}) List<View> views;\n"
+        + "  @BindString(4) String text;\n"
+        + "  @OnClick(1) void doStuff() {}\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.CallSuper;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.Rebindable;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
+        + "import butterknife.internal.DebouncingOnClickListener;\n"
+        + "import butterknife.internal.Utils;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding implements Rebindable {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(3, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
+        + "  private Test target;\n"
+        + "  private View view1;\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(final Test target, View source) {\n"
+        + "    this.target = target;\n"
+        + "    View view;\n"
+        + "    view = Utils.findRequiredView(source, 1, \"field 'one' and method 'doStuff'\");\n"
+        + "    target.one = view;\n"
+        + "    view1 = view;\n"
+        + "    view.setOnClickListener(new DebouncingOnClickListener() {\n"
+        + "      @Override\n"
+        + "      public void doClick(View p0) {\n"
+        + "        Test_ViewBinding.this.target.doStuff();\n"
+        + "      }\n"
+        + "    });\n"
+        + "    target.views = Utils.listFilteringNull(\n"
+        + "        Utils.findRequiredView(source, 2, \"field 'views'\"),\n"
+        + "        Utils.findRequiredView(source, 3, \"field 'views'\"));\n"
+        + "    Context context = source.getContext();\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.text = res.getString(4);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void unbind() {\n"
+        + "    Test target = this.target;\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    this.target = null;\n"
+        + "    target.one = null;\n"
+        + "    target.views = null;\n"
+        + "    view1.setOnClickListener(null);\n"
+        + "    view1 = null;\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  @CallSuper\n"
+        + "  public void rebind(Object target) {\n"
+        + "    Test oldTarget = this.target;\n"
+        + "    if (oldTarget == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    Test newTarget = (Test) target;\n"
+        + "    this.target = newTarget;\n"
+        + "    newTarget.one = oldTarget.one;\n"
+        + "    newTarget.views = oldTarget.views;\n"
+        + "    newTarget.text = oldTarget.text;\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSource()).that(source)
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebindable=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+
+  @Test public void rebindCallsSuperclass() {
+    JavaFileObject baseSource = JavaFileObjects.forSourceString("test.Base", ""
+        + "package test;\n"
+        + "import butterknife.OnClick;\n"
+        + "public class Base {\n"
+        + "  @OnClick(1) void doStuff() {}\n"
+        + "}"
+    );
+
+    JavaFileObject testSource = JavaFileObjects.forSourceString("test.Test", ""
+        + "package test;\n"
+        + "import butterknife.BindString;\n"
+        + "public class Test extends Base {\n"
+        + "  @BindString(2) String text;\n"
+        + "}"
+    );
+
+    JavaFileObject bindingSource = JavaFileObjects.forSourceString("test/Test_ViewBinding", ""
+        + "package test;\n"
+        + "import android.content.Context;\n"
+        + "import android.content.res.Resources;\n"
+        + "import android.view.View;\n"
+        + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import java.lang.IllegalStateException;\n"
+        + "import java.lang.Object;\n"
+        + "import java.lang.Override;\n"
+        + "import java.lang.SuppressWarnings;\n"
+        + "public class Test_ViewBinding extends Base_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new Test_ViewBinding((Test) target, source);\n"
+        + "  private Test target;\n"
+        + "  @UiThread\n"
+        + "  @SuppressWarnings(\"ResourceType\")\n"
+        + "  public Test_ViewBinding(Test target, View source) {\n"
+        + "    super(target, source);\n"
+        + "    this.target = target;\n"
+        + "    Context context = source.getContext();\n"
+        + "    Resources res = context.getResources();\n"
+        + "    target.text = res.getString(2);\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void unbind() {\n"
+        + "    if (target == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    target = null;\n"
+        + "    super.unbind();\n"
+        + "  }\n"
+        + "  @Override\n"
+        + "  public void rebind(Object target) {\n"
+        + "    Test oldTarget = this.target;\n"
+        + "    if (oldTarget == null) throw new IllegalStateException(\"Bindings already cleared.\");\n"
+        + "    Test newTarget = (Test) target;\n"
+        + "    this.target = newTarget;\n"
+        + "    newTarget.text = oldTarget.text;\n"
+        + "    super.rebind(target);\n"
+        + "  }\n"
+        + "}"
+    );
+
+    assertAbout(javaSources()).that(asList(baseSource, testSource))
+        .withCompilerOptions("-Xlint:-processing", "-Abutterknife.rebindable=true")
+        .processedWith(new ButterKnifeProcessor())
+        .compilesWithoutWarnings()
+        .and()
+        .generatesSources(bindingSource);
+  }
+}
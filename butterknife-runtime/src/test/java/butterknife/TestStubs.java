@@ -21,5 +21,11 @@ final class TestStubs {
           + "    void onPageSelected(int position);\n"
           + "    void onPageScrollStateChanged(int state);\n"
           + "  }\n"
+          + "  class SimpleOnPageChangeListener implements OnPageChangeListener {\n"
+          + "    @Override public void onPageScrolled(int position, float positionOffset,\n"
+          + "        int positionOffsetPixels) {}\n"
+          + "    @Override public void onPageSelected(int position) {}\n"
+          + "    @Override public void onPageScrollStateChanged(int state) {}\n"
+          + "  }\n"
           + "}\n");
 }
@@ -32,11 +32,14 @@ public class UnbinderTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(2, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -112,11 +115,14 @@ public class UnbinderTest {
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class Test_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new Test_ViewBinding((Test) target, source));\n"
         + "  private Test target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -147,11 +153,14 @@ public class UnbinderTest {
         + "package test;\n"
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class TestTwo_ViewBinding extends Test_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new TestTwo_ViewBinding((TestTwo) target, source));\n"
         + "  private TestTwo target;\n"
         + "  private View view1;\n"
         + "  @UiThread\n"
@@ -297,13 +306,16 @@ public class UnbinderTest {
         + "package test;\n"
         + "import android.content.Context;\n"
         + "import android.view.View;\n"
+        + "import androidx.annotation.AnyThread;\n"
         + "import androidx.annotation.CallSuper;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
         + "import butterknife.Unbinder;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "import java.lang.Override;\n"
         + "public class A_ViewBinding implements Unbinder {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new A_ViewBinding((A) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(A, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -313,7 +325,7 @@ public class UnbinderTest {
         + "  public Test_ViewBinding(A target, View source) {\n"
         + "    this(target, source.getContext());\n"
         + "  }\n"
-        + "  @UiThread\n"
+        + "  @AnyThread\n"
         + "  public A_ViewBinding(A target, Context context) {\n"
         + "    target.blackColor = ContextCompat.getColor(context, android.R.color.black);\n"
         + "  }\n"
@@ -331,8 +343,10 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "import java.lang.Deprecated;\n"
         + "public class B_ViewBinding extends A_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new B_ViewBinding((B) target, source);\n"
         + "  /**\n"
         + "   * @deprecated Use {@link #Test_ViewBinding(B, Context)} for direct creation.\n"
         + "   *     Only present for runtime invocation through {@code ButterKnife.bind()}.\n"
@@ -357,10 +371,13 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class C_ViewBinding extends B_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new C_ViewBinding((C) target, source));\n"
         + "  private C target;\n"
         + "  @UiThread\n"
         + "  public C_ViewBinding(C target, View source) {\n"
@@ -387,7 +404,9 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "public class D_ViewBinding extends C_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new D_ViewBinding((D) target, source);\n"
         + "  @UiThread\n"
         + "  public D_ViewBinding(D target, View source) {\n"
         + "    super(target, source);\n"
@@ -403,7 +422,9 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "public class E_ViewBinding extends C_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new E_ViewBinding((E) target, source);\n"
         + "  @UiThread\n"
         + "  public E_ViewBinding(E target, View source) {\n"
         + "    super(target, source);\n"
@@ -419,7 +440,9 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
         + "public class F_ViewBinding extends D_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = (target, source) -> new F_ViewBinding((F) target, source);\n"
         + "  @UiThread\n"
         + "  public F_ViewBinding(F target, View source) {\n"
         + "    super(target, source);\n"
@@ -435,11 +458,14 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.DebouncingOnClickListener;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class G_ViewBinding extends E_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(2, (target, source) -> new G_ViewBinding((G) target, source));\n"
         + "  private G target;\n"
         + "  private View view1020002;\n"
         + "  @UiThread\n"
@@ -478,10 +504,13 @@ public class UnbinderTest {
         + "import android.view.View;\n"
         + "import androidx.annotation.UiThread;\n"
         + "import androidx.core.content.ContextCompat;\n"
+        + "import butterknife.UnbinderFactory;\n"
+        + "import butterknife.internal.CountedUnbinderFactory;\n"
         + "import butterknife.internal.Utils;\n"
         + "import java.lang.IllegalStateException;\n"
         + "import java.lang.Override;\n"
         + "public class H_ViewBinding extends G_ViewBinding {\n"
+        + "  public static final UnbinderFactory FACTORY = new CountedUnbinderFactory(1, (target, source) -> new H_ViewBinding((H) target, source));\n"
         + "  private H target;\n"
         + "  @UiThread\n"
         + "  public H_ViewBinding(H target, View source) {\n"
@@ -3,6 +3,9 @@ package butterknife;
 import android.content.Context;
 import android.view.View;
 import androidx.test.InstrumentationRegistry;
+import butterknife.internal.CountedUnbinderFactory;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -15,6 +18,9 @@ public class ButterKnifeTest {
   @Before @After // Clear out cache of binders before and after each test.
   public void resetViewsCache() {
     ButterKnife.BINDINGS.clear();
+    ButterKnife.INDEXES.clear();
+    ButterKnife.FIND_VIEW_COUNTS.clear();
+    ButterKnife.setBindingListener(null);
   }
 
   @Test public void zeroBindingsBindDoesNotThrowExceptionAndCaches() {
@@ -25,7 +31,67 @@ public class ButterKnifeTest {
     View view = new View(context);
     assertThat(ButterKnife.BINDINGS).isEmpty();
     assertThat(ButterKnife.bind(example, view)).isSameAs(Unbinder.EMPTY);
-    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, null);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void preloadCachesFromBackgroundThread() throws InterruptedException {
+    class Example {
+    }
+
+    Thread thread = new Thread(() -> ButterKnife.preload(Example.class));
+    thread.start();
+    thread.join();
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void hierarchyWithoutBindingsIsResolvedOnce() {
+    class Base {
+    }
+    class Middle extends Base {
+    }
+    class Leaf extends Middle {
+    }
+
+    View view = new View(context);
+    long probes = ButterKnife.getBindingProbeCount();
+    assertThat(ButterKnife.bind(new Leaf(), view)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.getBindingProbeCount() - probes).isEqualTo(3);
+    assertThat(ButterKnife.BINDINGS).containsExactly(
+        Leaf.class, ButterKnife.NO_BINDING,
+        Middle.class, ButterKnife.NO_BINDING,
+        Base.class, ButterKnife.NO_BINDING);
+
+    long hits = ButterKnife.getCacheHitCount();
+    long misses = ButterKnife.getCacheMissCount();
+    ButterKnife.bind(new Leaf(), view);
+    ButterKnife.bind(new Middle(), view);
+    assertThat(ButterKnife.getCacheHitCount() - hits).isEqualTo(2);
+    assertThat(ButterKnife.getCacheMissCount() - misses).isEqualTo(0);
+    assertThat(ButterKnife.getBindingProbeCount() - probes).isEqualTo(3);
+  }
+
+  @Test public void bindingListenerReportsLookups() {
+    class Example {
+    }
+
+    final List<Boolean> cacheHits = new ArrayList<>();
+    ButterKnife.setBindingListener(new BindingListener() {
+      @Override public void onBind(Class<?> targetClass, boolean cacheHit, long lookupNanos,
+          long bindNanos, int findViewCount) {
+        assertThat(targetClass).isEqualTo(Example.class);
+        assertThat(findViewCount).isEqualTo(0);
+        cacheHits.add(cacheHit);
+      }
+
+      @Override public void onUnbind(Class<?> targetClass, long unbindNanos) {
+        throw new AssertionError();
+      }
+    });
+
+    View view = new View(context);
+    assertThat(ButterKnife.bind(new Example(), view)).isSameAs(Unbinder.EMPTY);
+    assertThat(ButterKnife.bind(new Example(), view)).isSameAs(Unbinder.EMPTY);
+    assertThat(cacheHits).containsExactly(false, true).inOrder();
   }
 
   @Test public void bindingKnownPackagesIsNoOp() {
@@ -35,4 +101,111 @@ public class ButterKnifeTest {
     ButterKnife.bind(new Object(), view);
     assertThat(ButterKnife.BINDINGS).isEmpty();
   }
+
+  @Test public void indexIsConsultedInsteadOfClassLoader() {
+    class Example {
+    }
+
+    final List<Class<?>> lookups = new ArrayList<>();
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public UnbinderFactory getBindingFactory(Class<?> targetClass) {
+        lookups.add(targetClass);
+        return null;
+      }
+
+      @Override public String[] getTargetClassNames() {
+        return new String[0];
+      }
+    });
+
+    View view = new View(context);
+    assertThat(ButterKnife.bind(new Example(), view)).isSameAs(Unbinder.EMPTY);
+    assertThat(lookups).containsExactly(Example.class);
+    assertThat(ButterKnife.BINDINGS).containsEntry(Example.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void warmUpCachesEveryIndexedClass() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public UnbinderFactory getBindingFactory(Class<?> targetClass) {
+        return null;
+      }
+
+      @Override public String[] getTargetClassNames() {
+        return new String[] { WarmUpExample.class.getName(), "com.example.Missing" };
+      }
+    });
+
+    ButterKnife.warmUp(Runnable::run);
+    assertThat(ButterKnife.BINDINGS).containsExactly(WarmUpExample.class, ButterKnife.NO_BINDING);
+  }
+
+  @Test public void bindingListenerReportsGeneratedFindViewCounts() {
+    List<Integer> findViewCounts = recordFindViewCounts();
+    View view = new View(context);
+    ButterKnife.bind(new CountedChild(), view).unbind();
+    assertThat(findViewCounts).containsExactly(3);
+  }
+
+  @Test public void findViewCountsAreReadThroughIndex() {
+    ButterKnife.addIndex(new BindingIndex() {
+      @Override public UnbinderFactory getBindingFactory(Class<?> targetClass) {
+        if (targetClass == Counted.class) {
+          return new CountedUnbinderFactory(2, (target, source) -> Unbinder.EMPTY);
+        }
+        if (targetClass == CountedChild.class) {
+          return new CountedUnbinderFactory(1, (target, source) -> Unbinder.EMPTY);
+        }
+        return null;
+      }
+
+      @Override public String[] getTargetClassNames() {
+        return new String[0];
+      }
+    });
+
+    List<Integer> findViewCounts = recordFindViewCounts();
+    View view = new View(context);
+    ButterKnife.bind(new CountedGrandchild(), view);
+    assertThat(findViewCounts).containsExactly(3);
+  }
+
+  private static List<Integer> recordFindViewCounts() {
+    final List<Integer> findViewCounts = new ArrayList<>();
+    ButterKnife.setBindingListener(new BindingListener() {
+      @Override public void onBind(Class<?> targetClass, boolean cacheHit, long lookupNanos,
+          long bindNanos, int findViewCount) {
+        findViewCounts.add(findViewCount);
+      }
+
+      @Override public void onUnbind(Class<?> targetClass, long unbindNanos) {
+      }
+    });
+    return findViewCounts;
+  }
+
+  static class WarmUpExample {
+  }
+
+  static class Counted {
+  }
+
+  static class Counted_ViewBinding implements Unbinder {
+    public static final UnbinderFactory FACTORY =
+        new CountedUnbinderFactory(2, (target, source) -> new Counted_ViewBinding());
+
+    @Override public void unbind() {
+    }
+  }
+
+  static class CountedChild extends Counted {
+  }
+
+  static class CountedChild_ViewBinding extends Counted_ViewBinding {
+    public static final UnbinderFactory FACTORY =
+        new CountedUnbinderFactory(1, (target, source) -> new CountedChild_ViewBinding());
+  }
+
+  /** Has no binding of its own, so only its superclasses' lookups are counted. */
+  static class CountedGrandchild extends CountedChild {
+  }
 }
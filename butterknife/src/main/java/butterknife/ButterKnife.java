@@ -5,17 +5,23 @@ import android.app.Dialog;
 import android.util.Log;
 import android.view.View;
 
+import androidx.annotation.AnyThread;
 import androidx.annotation.CheckResult;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
 import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Field and method binding for Android views. Use this class to simplify finding views and
@@ -84,10 +90,40 @@ public final class ButterKnife {
     private static boolean debug = false;
 
     /**
-     * 需要进行绑定的类:对应的生成的类
+     * 需要进行绑定的类:对应的生成的类的工厂,没有绑定的类对应{@link #NO_BINDING}.
+     * 读取时不加锁,所以可以在后台线程中预先查找绑定类
      */
     @VisibleForTesting
-    static final Map<Class<?>, Constructor<? extends Unbinder>> BINDINGS = new LinkedHashMap<>();
+    static final Map<Class<?>, UnbinderFactory> BINDINGS = new ConcurrentHashMap<>();
+
+    /**
+     * Cached in place of a factory for classes without bindings since the cache does not permit
+     * null values.
+     */
+    @VisibleForTesting
+    static final UnbinderFactory NO_BINDING = (target, source) -> Unbinder.EMPTY;
+
+    /**
+     * Build-time indexes of generated bindings. When non-empty these are consulted instead of
+     * probing the class loader for {@code _ViewBinding} classes.
+     */
+    @VisibleForTesting
+    static final List<BindingIndex> INDEXES = new CopyOnWriteArrayList<>();
+
+    /**
+     * 绑定类查找的统计:命中缓存的次数,未命中缓存的次数,以及查找生成的绑定类(索引或ClassLoader)的次数
+     */
+    private static final AtomicLong CACHE_HITS = new AtomicLong();
+    private static final AtomicLong CACHE_MISSES = new AtomicLong();
+    private static final AtomicLong BINDING_PROBES = new AtomicLong();
+
+    @Nullable
+    private static volatile BindingListener bindingListener;
+    /**
+     * 每个类绑定时遍历View树的次数,只在安装了BindingListener时读取
+     */
+    @VisibleForTesting
+    static final Map<Class<?>, Integer> FIND_VIEW_COUNTS = new ConcurrentHashMap<>();
 
     /**
      * Control whether debug logging is enabled.
@@ -96,6 +132,100 @@ public final class ButterKnife {
         ButterKnife.debug = debug;
     }
 
+    /**
+     * Install a listener which receives the timings of every binding, or remove it with
+     * {@code null}. Binding is not measured while no listener is installed.
+     */
+    @AnyThread
+    public static void setBindingListener(@Nullable BindingListener listener) {
+        bindingListener = listener;
+    }
+
+    /**
+     * Add a build-time {@link BindingIndex} generated by the annotation processor. Once an index has
+     * been added, binding lookups no longer probe the class loader and classes which are absent
+     * from every index are treated as having no bindings of their own. Add the index of every
+     * module which declares bindings, typically in {@code Application.onCreate}.
+     */
+    @AnyThread
+    public static void addIndex(@NonNull BindingIndex index) {
+        INDEXES.add(index);
+        BINDINGS.clear();
+    }
+
+    /**
+     * Look up and cache the bindings of the specified classes ahead of their first
+     * {@code bind} call. This may be called from any thread, e.g. from a worker thread during
+     * application startup or while layouts are being inflated asynchronously.
+     *
+     * @param targetClasses Classes which will later be bound.
+     */
+    @AnyThread
+    public static void preload(@NonNull Class<?>... targetClasses) {
+        for (Class<?> targetClass : targetClasses) {
+            findBindingFactoryForClass(targetClass);
+        }
+    }
+
+    /**
+     * Load, link, and cache the generated binding of every class listed in the added
+     * {@linkplain #addIndex indexes} on {@code executor}. Call this early in
+     * {@code Application.onCreate} so that the first {@code bind} of each screen does not pay for
+     * class loading and verification on the main thread. Without an index there is nothing to
+     * warm up and this method does nothing.
+     *
+     * @param executor Executor which performs the work, typically a background thread.
+     */
+    @AnyThread
+    public static void warmUp(@NonNull Executor executor) {
+        for (BindingIndex index : INDEXES) {
+            executor.execute(() -> warmUp(index));
+        }
+    }
+
+    @WorkerThread
+    private static void warmUp(BindingIndex index) {
+        ClassLoader classLoader = index.getClass().getClassLoader();
+        for (String targetClassName : index.getTargetClassNames()) {
+            Class<?> targetClass;
+            try {
+                //只加载不初始化目标类,绑定类在获取FACTORY时完成加载,链接和初始化
+                targetClass = Class.forName(targetClassName, false, classLoader);
+            } catch (ClassNotFoundException e) {
+                if (debug) Log.d(TAG, "Skipping warm up of missing class " + targetClassName);
+                continue;
+            }
+            findBindingFactoryForClass(targetClass);
+        }
+    }
+
+    /**
+     * The number of binding lookups answered by a single read of the binding cache. After the
+     * first binding of a class every later lookup for it is a hit, regardless of how deep its
+     * hierarchy is.
+     */
+    @AnyThread
+    public static long getCacheHitCount() {
+        return CACHE_HITS.get();
+    }
+
+    /**
+     * The number of binding lookups which were not cached and had to walk the class hierarchy.
+     */
+    @AnyThread
+    public static long getCacheMissCount() {
+        return CACHE_MISSES.get();
+    }
+
+    /**
+     * The number of classes checked for a generated binding, either in a {@link BindingIndex} or by
+     * loading their {@code _ViewBinding} class, while walking class hierarchies.
+     */
+    @AnyThread
+    public static long getBindingProbeCount() {
+        return BINDING_PROBES.get();
+    }
+
     /**
      * BindView annotated fields and methods in the specified {@link Activity}. The current content
      * view is used as the view root.
@@ -176,85 +306,217 @@ public final class ButterKnife {
         //要进行绑定的字段或方法所属的类
         Class<?> targetClass = target.getClass();
 
-        if (debug) Log.d(TAG, "Looking up binding for " + targetClass.getName());
+        BindingListener listener = bindingListener;
+        if (listener != null) {
+            return bindMeasured(target, source, targetClass, listener);
+        }
 
         /*
-        找到生成的绑定类的构造方法
-        public IndexActivity_ViewBinding(IndexActivity target, View source)
+        找到生成的绑定类的工厂
+        public static final UnbinderFactory FACTORY =
+            (target, source) -> new IndexActivity_ViewBinding((IndexActivity) target, source);
          */
-        Constructor<? extends Unbinder> constructor = findBindingConstructorForClass(targetClass);
+        UnbinderFactory factory = findBindingFactoryForClass(targetClass);
+
+        //注意:创建绑定类,在这里会执行构造方法里面的绑定代码.没有绑定时返回Unbinder.EMPTY
+        return factory.bind(target, source);
+    }
+
+    /**
+     * 测量查找和创建绑定的耗时,报告findViewById的次数,解绑时同样测量耗时
+     */
+    private static Unbinder bindMeasured(Object target, View source, Class<?> targetClass,
+                                         BindingListener listener) {
+        long lookupStart = System.nanoTime();
+        boolean cacheHit = BINDINGS.containsKey(targetClass);
+        UnbinderFactory factory = findBindingFactoryForClass(targetClass);
+        long bindStart = System.nanoTime();
+        Unbinder unbinder = factory.bind(target, source);
+        long bindEnd = System.nanoTime();
+        listener.onBind(targetClass, cacheHit, bindStart - lookupStart, bindEnd - bindStart,
+                getFindViewCount(targetClass));
 
-        if (constructor == null) {
-            return Unbinder.EMPTY;
+        if (unbinder == Unbinder.EMPTY) {
+            return unbinder;
         }
+        if (unbinder instanceof Rebindable) {
+            //保留rebind的能力
+            Rebindable rebindable = (Rebindable) unbinder;
+            return new Rebindable() {
+                @Override
+                public void rebind(@NonNull Object target) {
+                    rebindable.rebind(target);
+                }
 
-        //noinspection TryWithIdenticalCatches Resolves to API 19+ only type.
-        try {
-            //注意:实例化绑定类,在这里会执行构造方法里面的绑定代码
-            return constructor.newInstance(target, source);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Unable to invoke " + constructor, e);
-        } catch (InstantiationException e) {
-            throw new RuntimeException("Unable to invoke " + constructor, e);
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            }
-            if (cause instanceof Error) {
-                throw (Error) cause;
+                @Override
+                public void unbind() {
+                    unbindMeasured(rebindable, targetClass, listener);
+                }
+            };
+        }
+        return () -> unbindMeasured(unbinder, targetClass, listener);
+    }
+
+    /**
+     * 绑定{@code targetClass}时遍历View树的次数.生成的绑定类的工厂报告自己构造方法中的次数,
+     * 这里沿继承链加上父类的绑定类的次数.每一级都通过{@link #findBindingFactoryForClass}查找,
+     * 和绑定共用缓存和索引.某个类的工厂和它父类的相同时,说明它自己没有绑定
+     */
+    private static int getFindViewCount(Class<?> targetClass) {
+        Integer cached = FIND_VIEW_COUNTS.get(targetClass);
+        if (cached != null) {
+            return cached;
+        }
+        int count = 0;
+        UnbinderFactory factory = findBindingFactoryForClass(targetClass);
+        for (Class<?> cls = targetClass; factory != NO_BINDING; cls = cls.getSuperclass()) {
+            UnbinderFactory parentFactory = findBindingFactoryForClass(cls.getSuperclass());
+            if (factory != parentFactory) {
+                count += factory.getFindViewCount();
             }
-            throw new RuntimeException("Unable to create binding instance.", cause);
+            factory = parentFactory;
         }
+        FIND_VIEW_COUNTS.put(targetClass, count);
+        return count;
+    }
+
+    private static void unbindMeasured(Unbinder unbinder, Class<?> targetClass,
+                                       BindingListener listener) {
+        long start = System.nanoTime();
+        unbinder.unbind();
+        listener.onUnbind(targetClass, System.nanoTime() - start);
     }
 
     /**
-     * 根据类名找到对应的生成的ViewBinding类名
-     *
-     * @param cls
-     * @return
+     * 根据类名找到对应的生成的ViewBinding类的工厂,没有绑定时返回{@link #NO_BINDING}.
+     * 未命中缓存时沿继承链向上查找,找到最近的有绑定的祖先类或者框架类为止,
+     * 途经的每个类都直接缓存最终结果,之后的查找只需要一次map读取
      */
-    @Nullable
+    @NonNull
     @CheckResult
-    @UiThread
-    private static Constructor<? extends Unbinder> findBindingConstructorForClass(Class<?> cls) {
-        Constructor<? extends Unbinder> bindingCtor = BINDINGS.get(cls);
-        if (bindingCtor != null || BINDINGS.containsKey(cls)) {
+    @AnyThread
+    private static UnbinderFactory findBindingFactoryForClass(Class<?> cls) {
+        UnbinderFactory bindingFactory = BINDINGS.get(cls);
+        if (bindingFactory != null) {
+            CACHE_HITS.incrementAndGet();
             if (debug) Log.d(TAG, "HIT: Cached in binding map.");
-            return bindingCtor;
+            return bindingFactory;
         }
+        CACHE_MISSES.incrementAndGet();
+        if (debug) Log.d(TAG, "MISS: Walking the hierarchy of " + cls.getName());
+
+        //继承链上没有绑定的类,找到结果后统一缓存
+        List<Class<?>> walked = new ArrayList<>();
+        Class<?> current = cls;
+        while (true) {
+            if (current != cls) {
+                bindingFactory = BINDINGS.get(current);
+                if (bindingFactory != null) {
+                    if (debug) Log.d(TAG, "HIT: Ancestor cached in binding map.");
+                    break;
+                }
+            }
+
+            //类全路径名称
+            String clsName = current.getName();
 
-        //类全路径名称
-        String clsName = cls.getName();
+            //排除掉已android java androidx  开头的包的类
+            if (clsName.startsWith("android.") || clsName.startsWith("java.")
+                    || clsName.startsWith("androidx.")) {
+                if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
+                bindingFactory = NO_BINDING;
+                break;
+            }
 
-        //排除掉已android java androidx  开头的包的类
-        if (clsName.startsWith("android.") || clsName.startsWith("java.")
-                || clsName.startsWith("androidx.")) {
-            if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
+            BINDING_PROBES.incrementAndGet();
+            bindingFactory = findBindingFactory(current);
+            if (bindingFactory != null) {
+                if (debug) Log.d(TAG, "HIT: Loaded binding class and factory.");
+                walked.add(current);
+                break;
+            }
+
+            //当前类没有对应的生成类,在父类中查找
+            walked.add(current);
+            current = current.getSuperclass();
+        }
+
+        // Another thread may have raced this lookup. Both resolve the same factory.
+        for (int i = 0, count = walked.size(); i < count; i++) {
+            BINDINGS.put(walked.get(i), bindingFactory);
+        }
+        return bindingFactory;
+    }
+
+    /**
+     * 查找生成的绑定类的工厂,优先使用编译期生成的索引,没有索引时才使用ClassLoader加载绑定类
+     */
+    @Nullable
+    private static UnbinderFactory findBindingFactory(Class<?> cls) {
+        if (!INDEXES.isEmpty()) {
+            for (int i = 0, count = INDEXES.size(); i < count; i++) {
+                UnbinderFactory bindingFactory = INDEXES.get(i).getBindingFactory(cls);
+                if (bindingFactory != null) {
+                    return bindingFactory;
+                }
+            }
             return null;
         }
 
+        Class<?> bindingClass;
         try {
             //使用ClassLoader加载生成的绑定类
-            Class<?> bindingClass = cls.getClassLoader().loadClass(clsName + "_ViewBinding");
-            //noinspection unchecked
-            /*
-            获取绑定类的构造方法
-            public class IndexActivity_ViewBinding implements Unbinder{
-             public IndexActivity_ViewBinding(IndexActivity target, View source)
-             }
-             */
-            bindingCtor = (Constructor<? extends Unbinder>) bindingClass.getConstructor(cls, View.class);
-            if (debug) Log.d(TAG, "HIT: Loaded binding class and constructor.");
+            bindingClass = cls.getClassLoader().loadClass(cls.getName() + "_ViewBinding");
         } catch (ClassNotFoundException e) {
-            if (debug) Log.d(TAG, "Not found. Trying superclass " + cls.getSuperclass().getName());
+            return null;
+        }
 
-            //当前类没有对应的生成类,在父类中查找,如果到了java.lang.Object类,则返回null
-            bindingCtor = findBindingConstructorForClass(cls.getSuperclass());
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException("Unable to find binding constructor for " + clsName, e);
+        try {
+            return (UnbinderFactory) bindingClass.getDeclaredField("FACTORY").get(null);
+        } catch (NoSuchFieldException e) {
+            // Generated by an older version of the annotation processor which has no factory.
+            return new ConstructorUnbinderFactory(cls, bindingClass);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Unable to access binding factory for " + cls.getName(), e);
+        }
+    }
+
+    /**
+     * 兼容旧版本注解处理器生成的没有FACTORY字段的绑定类,通过反射调用构造方法
+     * public IndexActivity_ViewBinding(IndexActivity target, View source)
+     */
+    private static final class ConstructorUnbinderFactory implements UnbinderFactory {
+        private final Constructor<? extends Unbinder> constructor;
+
+        ConstructorUnbinderFactory(Class<?> cls, Class<?> bindingClass) {
+            try {
+                //noinspection unchecked
+                constructor = (Constructor<? extends Unbinder>) bindingClass.getConstructor(cls, View.class);
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException("Unable to find binding constructor for " + cls.getName(), e);
+            }
+        }
+
+        @NonNull
+        @Override
+        public Unbinder bind(@NonNull Object target, @NonNull View source) {
+            //noinspection TryWithIdenticalCatches Resolves to API 19+ only type.
+            try {
+                return constructor.newInstance(target, source);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Unable to invoke " + constructor, e);
+            } catch (InstantiationException e) {
+                throw new RuntimeException("Unable to invoke " + constructor, e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException("Unable to create binding instance.", cause);
+            }
         }
-        BINDINGS.put(cls, bindingCtor);
-        return bindingCtor;
     }
 }